@@ -0,0 +1,114 @@
+package org.example.benchmarks;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.databind.type.CollectionType;
+import com.fasterxml.jackson.dataformat.cbor.CBORFactory;
+import com.fasterxml.jackson.dataformat.smile.SmileFactory;
+import java.io.IOException;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import org.example.api.dto.TaskStateDto;
+import org.example.api.encoding.BinaryEncodingConfig;
+import org.example.api.factories.TaskDtoFactory;
+import org.example.api.factories.TaskStateDtoFactory;
+import org.openjdk.jmh.annotations.AuxCounters;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+/**
+ * Board payload in each encoding the API negotiates. Payload sizes are reported as the
+ * {@code payloadBytes} counter of {@link #serializeBoard}.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Benchmark)
+public class BoardEncodingBenchmark {
+
+  @Param({"json", "cbor", "smile"})
+  String encoding;
+
+  @Param({"10", "50"})
+  int taskStateCount;
+
+  @Param({"100", "1000"})
+  int tasksPerTaskState;
+
+  private ObjectWriter boardWriter;
+
+  private ObjectReader boardReader;
+
+  private List<TaskStateDto> board;
+
+  private byte[] encodedBoard;
+
+  @Setup
+  public void setUp() throws IOException {
+
+    ObjectMapper objectMapper = makeObjectMapper(encoding);
+
+    CollectionType boardType = objectMapper.getTypeFactory()
+        .constructCollectionType(List.class, TaskStateDto.class);
+
+    boardWriter = objectMapper.writerFor(boardType);
+    boardReader = objectMapper.readerFor(boardType);
+
+    board = new TaskStateDtoFactory(new TaskDtoFactory())
+        .makeTaskStateDtoList(BoardFixtures.makeBoard(taskStateCount, tasksPerTaskState));
+
+    encodedBoard = boardWriter.writeValueAsBytes(board);
+  }
+
+  @Benchmark
+  public byte[] serializeBoard(PayloadSize payloadSize) throws IOException {
+
+    byte[] encoded = boardWriter.writeValueAsBytes(board);
+
+    payloadSize.payloadBytes = encoded.length;
+
+    return encoded;
+  }
+
+  @Benchmark
+  public List<TaskStateDto> deserializeBoard() throws IOException {
+    return boardReader.readValue(encodedBoard);
+  }
+
+  @AuxCounters(AuxCounters.Type.EVENTS)
+  @State(Scope.Thread)
+  public static class PayloadSize {
+
+    public long payloadBytes;
+  }
+
+  // Same settings the application's message converters use
+  private static ObjectMapper makeObjectMapper(String encoding) {
+    switch (encoding) {
+      case "cbor":
+        return BinaryEncodingConfig.makeBinaryObjectMapper(
+            Jackson2ObjectMapperBuilder.json(), new CBORFactory());
+      case "smile":
+        return BinaryEncodingConfig.makeBinaryObjectMapper(
+            Jackson2ObjectMapperBuilder.json(), new SmileFactory());
+      default:
+        return Jackson2ObjectMapperBuilder.json()
+            .featuresToDisable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS)
+            .build();
+    }
+  }
+}
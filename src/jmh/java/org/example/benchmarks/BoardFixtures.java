@@ -0,0 +1,59 @@
+package org.example.benchmarks;
+
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import org.example.api.controllers.helpers.TaskStateRankHelper;
+import org.example.store.entities.ProjectEntity;
+import org.example.store.entities.TaskEntity;
+import org.example.store.entities.TaskStateEntity;
+
+final class BoardFixtures {
+
+  static final Instant CREATED_AT = Instant.parse("2021-08-01T10:15:30.123456Z");
+
+  private BoardFixtures() {
+  }
+
+  static ProjectEntity makeProject(long id) {
+    return ProjectEntity.builder()
+        .id(id)
+        .name("Project " + id)
+        .createdAt(CREATED_AT)
+        .build();
+  }
+
+  static List<TaskStateEntity> makeBoard(int taskStateCount, int tasksPerTaskState) {
+
+    ProjectEntity project = makeProject(1L);
+
+    List<TaskStateEntity> board = new ArrayList<>(taskStateCount);
+
+    long taskId = 1;
+
+    for (int i = 0; i < taskStateCount; i++) {
+
+      TaskStateEntity taskState = TaskStateEntity.builder()
+          .id((long) i + 1)
+          .name("Task state " + i)
+          .rank((i + 1) * TaskStateRankHelper.RANK_STEP)
+          .project(project)
+          .createdAt(CREATED_AT)
+          .build();
+
+      for (int j = 0; j < tasksPerTaskState; j++, taskId++) {
+        taskState.getTasks().add(TaskEntity.builder()
+            .id(taskId)
+            .name("Task " + taskId)
+            .description("Description of task " + taskId + " with a few more words in it")
+            .createdAt(CREATED_AT)
+            .taskState(taskState)
+            .build());
+      }
+
+      board.add(taskState);
+    }
+
+    return board;
+  }
+}
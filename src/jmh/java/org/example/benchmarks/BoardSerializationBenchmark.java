@@ -0,0 +1,62 @@
+package org.example.benchmarks;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import org.example.api.dto.TaskStateDto;
+import org.example.api.factories.TaskDtoFactory;
+import org.example.api.factories.TaskStateDtoFactory;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Benchmark)
+public class BoardSerializationBenchmark {
+
+  @Param({"10", "50"})
+  int taskStateCount;
+
+  @Param({"100", "1000"})
+  int tasksPerTaskState;
+
+  private ObjectWriter boardWriter;
+
+  private List<TaskStateDto> board;
+
+  @Setup
+  public void setUp() {
+
+    // Same settings Spring Boot applies to the application's mapper
+    ObjectMapper objectMapper = Jackson2ObjectMapperBuilder.json()
+        .featuresToDisable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS)
+        .build();
+
+    boardWriter = objectMapper.writerFor(objectMapper.getTypeFactory()
+        .constructCollectionType(List.class, TaskStateDto.class));
+
+    board = new TaskStateDtoFactory(new TaskDtoFactory())
+        .makeTaskStateDtoList(BoardFixtures.makeBoard(taskStateCount, tasksPerTaskState));
+  }
+
+  @Benchmark
+  public byte[] serializeBoard() throws JsonProcessingException {
+    return boardWriter.writeValueAsBytes(board);
+  }
+}
@@ -0,0 +1,66 @@
+package org.example.benchmarks;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import org.example.api.dto.ProjectDto;
+import org.example.api.dto.TaskStateDto;
+import org.example.api.factories.ProjectDtoFactory;
+import org.example.api.factories.TaskDtoFactory;
+import org.example.api.factories.TaskStateDtoFactory;
+import org.example.store.entities.ProjectEntity;
+import org.example.store.entities.TaskStateEntity;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Benchmark)
+public class DtoFactoryBenchmark {
+
+  @Param({"10", "50"})
+  int taskStateCount;
+
+  @Param({"0", "100", "1000"})
+  int tasksPerTaskState;
+
+  private final ProjectDtoFactory projectDtoFactory = new ProjectDtoFactory();
+
+  private final TaskStateDtoFactory taskStateDtoFactory = new TaskStateDtoFactory(new TaskDtoFactory());
+
+  private ProjectEntity project;
+
+  private List<TaskStateEntity> board;
+
+  @Setup
+  public void setUp() {
+    project = BoardFixtures.makeProject(1L);
+    board = BoardFixtures.makeBoard(taskStateCount, tasksPerTaskState);
+  }
+
+  @Benchmark
+  public ProjectDto makeProjectDto() {
+    return projectDtoFactory.makeProjectDto(project);
+  }
+
+  @Benchmark
+  public TaskStateDto makeTaskStateDto() {
+    return taskStateDtoFactory.makeTaskStateDto(board.get(0), null, board.get(1).getId());
+  }
+
+  @Benchmark
+  public List<TaskStateDto> makeTaskStateDtoList() {
+    return taskStateDtoFactory.makeTaskStateDtoList(board);
+  }
+}
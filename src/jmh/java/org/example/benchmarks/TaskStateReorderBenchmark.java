@@ -0,0 +1,53 @@
+package org.example.benchmarks;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import org.example.api.controllers.helpers.TaskStateRankHelper;
+import org.example.store.entities.TaskStateEntity;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Benchmark)
+public class TaskStateReorderBenchmark {
+
+  @Param({"10", "100", "1000"})
+  int taskStateCount;
+
+  private List<TaskStateEntity> board;
+
+  @Setup
+  public void setUp() {
+    board = BoardFixtures.makeBoard(taskStateCount, 0);
+  }
+
+  @Benchmark
+  public List<TaskStateEntity> moveLastToHead() {
+
+    TaskStateRankHelper.moveWithinBoard(board, board.get(board.size() - 1), null);
+
+    return board;
+  }
+
+  // Keeps halving the same gap, so every ~20th move also renumbers the whole board
+  @Benchmark
+  public List<TaskStateEntity> moveHeadToMiddle() {
+
+    TaskStateRankHelper.moveWithinBoard(board, board.get(0), board.get(board.size() / 2));
+
+    return board;
+  }
+}
@@ -0,0 +1,117 @@
+package org.example.loadtest;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.net.URI;
+import java.net.URLEncoder;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.Map;
+import java.util.stream.Collectors;
+import lombok.Value;
+
+public class ApiClient {
+
+  private static final Duration REQUEST_TIMEOUT = Duration.ofSeconds(30);
+
+  private final String baseUrl;
+
+  private final HttpClient httpClient = HttpClient.newBuilder()
+      .version(HttpClient.Version.HTTP_1_1)
+      .connectTimeout(Duration.ofSeconds(5))
+      .build();
+
+  public ApiClient(String baseUrl) {
+    this.baseUrl = baseUrl;
+  }
+
+  public ApiResponse get(String path, Map<String, ?> params, String accept) {
+    return send(newRequest(path, params)
+        .header("Accept", accept)
+        .GET()
+        .build());
+  }
+
+  public ApiResponse getIfNoneMatch(String path, String etag) {
+    return send(newRequest(path, Map.of())
+        .header("Accept", "application/json")
+        .header("If-None-Match", etag)
+        .GET()
+        .build());
+  }
+
+  public ApiResponse post(String path, Map<String, ?> params) {
+    return send(newRequest(path, params)
+        .POST(HttpRequest.BodyPublishers.noBody())
+        .build());
+  }
+
+  public ApiResponse postJson(String path, byte[] body) {
+    return send(newRequest(path, Map.of())
+        .header("Content-Type", "application/json")
+        .POST(HttpRequest.BodyPublishers.ofByteArray(body))
+        .build());
+  }
+
+  public ApiResponse patch(String path, Map<String, ?> params) {
+    return send(newRequest(path, params)
+        .method("PATCH", HttpRequest.BodyPublishers.noBody())
+        .build());
+  }
+
+  public ApiResponse delete(String path) {
+    return send(newRequest(path, Map.of())
+        .DELETE()
+        .build());
+  }
+
+  private HttpRequest.Builder newRequest(String path, Map<String, ?> params) {
+
+    String query = params.entrySet()
+        .stream()
+        .map(param -> param.getKey() + "="
+            + URLEncoder.encode(String.valueOf(param.getValue()), StandardCharsets.UTF_8))
+        .collect(Collectors.joining("&"));
+
+    return HttpRequest.newBuilder(URI.create(baseUrl + path + (query.isEmpty() ? "" : "?" + query)))
+        .timeout(REQUEST_TIMEOUT);
+  }
+
+  private ApiResponse send(HttpRequest request) {
+    try {
+      HttpResponse<byte[]> response = httpClient.send(request, HttpResponse.BodyHandlers.ofByteArray());
+
+      return new ApiResponse(
+          response.statusCode(),
+          response.headers().firstValue("ETag").orElse(null),
+          response.body()
+      );
+    } catch (IOException ex) {
+      throw new UncheckedIOException(ex);
+    } catch (InterruptedException ex) {
+      Thread.currentThread().interrupt();
+      throw new IllegalStateException("Interrupted while waiting for " + request.uri(), ex);
+    }
+  }
+
+  @Value
+  public static class ApiResponse {
+
+    int status;
+
+    String etag;
+
+    byte[] body;
+
+    public boolean isSuccessful() {
+      return isSuccessful(status);
+    }
+
+    public static boolean isSuccessful(int status) {
+      return (status >= 200 && status < 300) || status == 304;
+    }
+  }
+}
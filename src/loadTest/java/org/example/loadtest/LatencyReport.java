@@ -0,0 +1,124 @@
+package org.example.loadtest;
+
+import java.io.IOException;
+import java.io.PrintStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Supplier;
+import org.HdrHistogram.Histogram;
+import org.HdrHistogram.Recorder;
+import org.example.loadtest.ApiClient.ApiResponse;
+
+/**
+ * Latencies are recorded in microseconds and reported in milliseconds.
+ */
+public class LatencyReport {
+
+  private static final int TRANSPORT_ERROR = -1;
+
+  private static final double MICROS_PER_MILLI = 1000.0;
+
+  private final Map<String, Recorder> recorders = new ConcurrentHashMap<>();
+
+  private final Map<String, Map<Integer, LongAdder>> statusCounts = new ConcurrentHashMap<>();
+
+  public ApiResponse time(String operation, Supplier<ApiResponse> request) {
+
+    long startedAt = System.nanoTime();
+
+    ApiResponse response = null;
+    try {
+      response = request.get();
+      return response;
+    } finally {
+
+      long latency = TimeUnit.NANOSECONDS.toMicros(System.nanoTime() - startedAt);
+
+      recorders
+          .computeIfAbsent(operation, name -> new Recorder(3))
+          .recordValue(latency);
+
+      statusCounts
+          .computeIfAbsent(operation, name -> new ConcurrentHashMap<>())
+          .computeIfAbsent(response == null ? TRANSPORT_ERROR : response.getStatus(), status -> new LongAdder())
+          .increment();
+    }
+  }
+
+  public String write(Path reportDir, LoadTestSettings settings, long elapsedNanos) throws IOException {
+
+    Files.createDirectories(reportDir);
+
+    double elapsedSeconds = elapsedNanos / 1e9;
+
+    Map<String, Histogram> histograms = new TreeMap<>();
+    recorders.forEach((operation, recorder) -> histograms.put(operation, recorder.getIntervalHistogram()));
+
+    Histogram total = new Histogram(3);
+    histograms.values().forEach(total::add);
+
+    StringBuilder summary = new StringBuilder();
+
+    summary.append(settings).append('\n').append('\n');
+    summary.append(String.format("%-32s %9s %8s %10s %9s %9s %9s %9s %9s %s%n",
+        "operation", "count", "errors", "ops/s", "p50 ms", "p90 ms", "p99 ms", "p99.9 ms", "max ms", "statuses"));
+
+    histograms.forEach((operation, histogram) -> {
+
+      Map<Integer, Long> statuses = new TreeMap<>();
+      statusCounts.get(operation).forEach((status, count) -> statuses.put(status, count.sum()));
+
+      long errors = statuses.entrySet()
+          .stream()
+          .filter(entry -> !ApiResponse.isSuccessful(entry.getKey()))
+          .mapToLong(Map.Entry::getValue)
+          .sum();
+
+      appendRow(summary, operation, histogram, elapsedSeconds, errors, statuses.toString());
+    });
+
+    appendRow(summary, "total", total, elapsedSeconds, -1, "");
+
+    Files.writeString(reportDir.resolve("summary.txt"), summary);
+
+    for (Map.Entry<String, Histogram> entry : histograms.entrySet()) {
+      writePercentiles(reportDir.resolve(entry.getKey() + ".hgrm"), entry.getValue());
+    }
+    writePercentiles(reportDir.resolve("total.hgrm"), total);
+
+    return summary.toString();
+  }
+
+  private static void appendRow(
+      StringBuilder summary,
+      String operation,
+      Histogram histogram,
+      double elapsedSeconds,
+      long errors,
+      String statuses) {
+
+    summary.append(String.format("%-32s %9d %8s %10.1f %9.2f %9.2f %9.2f %9.2f %9.2f %s%n",
+        operation,
+        histogram.getTotalCount(),
+        errors < 0 ? "" : Long.toString(errors),
+        histogram.getTotalCount() / elapsedSeconds,
+        histogram.getValueAtPercentile(50) / MICROS_PER_MILLI,
+        histogram.getValueAtPercentile(90) / MICROS_PER_MILLI,
+        histogram.getValueAtPercentile(99) / MICROS_PER_MILLI,
+        histogram.getValueAtPercentile(99.9) / MICROS_PER_MILLI,
+        histogram.getMaxValue() / MICROS_PER_MILLI,
+        statuses));
+  }
+
+  private static void writePercentiles(Path file, Histogram histogram) throws IOException {
+    try (PrintStream out = new PrintStream(Files.newOutputStream(file), false, StandardCharsets.UTF_8)) {
+      histogram.outputPercentileDistribution(out, MICROS_PER_MILLI);
+    }
+  }
+}
@@ -0,0 +1,132 @@
+package org.example.loadtest;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.zonky.test.db.postgres.embedded.EmbeddedPostgres;
+import java.nio.file.Paths;
+import java.util.Collections;
+import java.util.Map;
+import java.util.Random;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import lombok.extern.log4j.Log4j2;
+import org.example.Application;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.boot.web.context.WebServerApplicationContext;
+import org.springframework.context.ConfigurableApplicationContext;
+
+/**
+ * Boots the application against an embedded (or the configured) Postgres, seeds boards and drives
+ * a mixed read/write workload at fixed concurrency. Run it with {@code ./gradlew loadTest}; every
+ * {@code -PloadTest.*} property is passed through to {@link LoadTestSettings}.
+ */
+@Log4j2
+public class LoadTest {
+
+  public static void main(String[] args) throws Exception {
+
+    LoadTestSettings settings = LoadTestSettings.fromSystemProperties();
+
+    EmbeddedPostgres embeddedPostgres = settings.getJdbcUrl().isPresent()
+        ? null
+        : EmbeddedPostgres.builder().start();
+
+    try {
+      String jdbcUrl = settings.getJdbcUrl()
+          .orElseGet(() -> embeddedPostgres.getJdbcUrl(settings.getUsername(), "postgres"));
+
+      try (ConfigurableApplicationContext context = startApplication(settings, jdbcUrl)) {
+        run(settings, context);
+      }
+    } finally {
+      if (embeddedPostgres != null) {
+        embeddedPostgres.close();
+      }
+    }
+  }
+
+  private static ConfigurableApplicationContext startApplication(LoadTestSettings settings, String jdbcUrl) {
+
+    String r2dbcUrl = jdbcUrl
+        .replaceFirst("^jdbc:", "r2dbc:")
+        .replaceFirst("\\?.*$", "");
+
+    return new SpringApplicationBuilder(Application.class)
+        .properties(Map.of(
+            "server.port", "0",
+            "spring.datasource.url", jdbcUrl,
+            "spring.datasource.username", settings.getUsername(),
+            "spring.datasource.password", settings.getPassword(),
+            "spring.datasource.hikari.maximum-pool-size", "20",
+            "task-tracker.reactive-reads.enabled", Boolean.toString(settings.isReactiveReads()),
+            "task-tracker.reactive-reads.url", r2dbcUrl,
+            "task-tracker.reactive-reads.username", settings.getUsername(),
+            "task-tracker.reactive-reads.password", settings.getPassword()
+        ))
+        .run();
+  }
+
+  private static void run(LoadTestSettings settings, ConfigurableApplicationContext context)
+      throws Exception {
+
+    int port = ((WebServerApplicationContext) context).getWebServer().getPort();
+
+    ApiClient apiClient = new ApiClient("http://localhost:" + port);
+
+    Workload workload = new Workload(apiClient, context.getBean(ObjectMapper.class), settings);
+
+    ExecutorService executor = Executors.newFixedThreadPool(settings.getConcurrency());
+
+    try {
+      log.info("Seeding {} projects with {} task states of {} tasks",
+          settings.getProjects(), settings.getTaskStatesPerProject(), settings.getTasksPerTaskState());
+
+      workload.seed(executor);
+
+      log.info("Warming up for {}s", settings.getWarmupSeconds());
+
+      drive(workload, executor, settings.getConcurrency(), settings.getWarmupSeconds(), new LatencyReport());
+
+      log.info("Measuring for {}s with {} clients", settings.getDurationSeconds(), settings.getConcurrency());
+
+      LatencyReport report = new LatencyReport();
+
+      long elapsedNanos = drive(
+          workload, executor, settings.getConcurrency(), settings.getDurationSeconds(), report);
+
+      String summary = report.write(Paths.get(settings.getReportDir()), settings, elapsedNanos);
+
+      log.info("Load test report written to {}\n{}", settings.getReportDir(), summary);
+    } finally {
+      executor.shutdownNow();
+    }
+  }
+
+  private static long drive(
+      Workload workload,
+      ExecutorService executor,
+      int concurrency,
+      int seconds,
+      LatencyReport report) throws InterruptedException {
+
+    long startedAt = System.nanoTime();
+    long deadline = startedAt + TimeUnit.SECONDS.toNanos(seconds);
+
+    Runnable client = () -> {
+
+      Random random = new Random();
+
+      while (System.nanoTime() < deadline && !Thread.currentThread().isInterrupted()) {
+        try {
+          workload.runRandomOperation(random, report);
+        } catch (RuntimeException ex) {
+          log.debug("Request failed", ex);
+        }
+      }
+    };
+
+    executor.invokeAll(Collections.nCopies(concurrency, Executors.callable(client)));
+
+    return System.nanoTime() - startedAt;
+  }
+}
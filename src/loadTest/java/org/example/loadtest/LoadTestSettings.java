@@ -0,0 +1,64 @@
+package org.example.loadtest;
+
+import java.util.Optional;
+import lombok.Builder;
+import lombok.Value;
+
+@Value
+@Builder
+public class LoadTestSettings {
+
+  private static final String PREFIX = "loadTest.";
+
+  int projects;
+
+  int taskStatesPerProject;
+
+  int tasksPerTaskState;
+
+  int concurrency;
+
+  int warmupSeconds;
+
+  int durationSeconds;
+
+  int writePercent;
+
+  boolean reactiveReads;
+
+  /**
+   * Empty to start an embedded Postgres.
+   */
+  Optional<String> jdbcUrl;
+
+  String username;
+
+  String password;
+
+  String reportDir;
+
+  public static LoadTestSettings fromSystemProperties() {
+    return LoadTestSettings.builder()
+        .projects(getInt("projects", 20))
+        .taskStatesPerProject(getInt("taskStatesPerProject", 10))
+        .tasksPerTaskState(getInt("tasksPerTaskState", 100))
+        .concurrency(getInt("concurrency", 32))
+        .warmupSeconds(getInt("warmupSeconds", 10))
+        .durationSeconds(getInt("durationSeconds", 60))
+        .writePercent(getInt("writePercent", 20))
+        .reactiveReads(Boolean.parseBoolean(getString("reactiveReads", "false")))
+        .jdbcUrl(Optional.ofNullable(System.getProperty(PREFIX + "jdbcUrl")))
+        .username(getString("username", "postgres"))
+        .password(getString("password", "postgres"))
+        .reportDir(getString("reportDir", "build/reports/load-test"))
+        .build();
+  }
+
+  private static int getInt(String name, int defaultValue) {
+    return Integer.parseInt(getString(name, Integer.toString(defaultValue)));
+  }
+
+  private static String getString(String name, String defaultValue) {
+    return System.getProperty(PREFIX + name, defaultValue);
+  }
+}
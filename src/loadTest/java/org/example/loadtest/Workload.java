@@ -0,0 +1,351 @@
+package org.example.loadtest;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.Queue;
+import java.util.Random;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+import lombok.Value;
+import org.example.api.controllers.ProjectController;
+import org.example.api.controllers.TaskController;
+import org.example.api.controllers.TaskStateController;
+import org.example.api.dto.NewTaskDto;
+import org.example.api.dto.TaskStateOperationDto;
+import org.example.loadtest.ApiClient.ApiResponse;
+
+/**
+ * Seeds projects with boards through the API and then drives a weighted mix of every
+ * project and task-state endpoint against them.
+ */
+public class Workload {
+
+  private static final String NDJSON = "application/x-ndjson";
+
+  private final ApiClient apiClient;
+
+  private final ObjectMapper objectMapper;
+
+  private final LoadTestSettings settings;
+
+  private final String runId = Long.toString(System.currentTimeMillis(), Character.MAX_RADIX);
+
+  private final AtomicLong nameSequence = new AtomicLong();
+
+  private final List<SeededProject> seededProjects = new ArrayList<>();
+
+  private final Map<Long, String> boardEtags = new ConcurrentHashMap<>();
+
+  private final Queue<Long> createdProjectIds = new ConcurrentLinkedQueue<>();
+
+  private final Queue<Long> createdTaskStateIds = new ConcurrentLinkedQueue<>();
+
+  public Workload(ApiClient apiClient, ObjectMapper objectMapper, LoadTestSettings settings) {
+    this.apiClient = apiClient;
+    this.objectMapper = objectMapper;
+    this.settings = settings;
+  }
+
+  public void seed(ExecutorService executor) throws InterruptedException, ExecutionException {
+
+    List<Callable<SeededProject>> seeders = IntStream.range(0, settings.getProjects())
+        .mapToObj(index -> (Callable<SeededProject>) () -> seedProject(index))
+        .collect(Collectors.toList());
+
+    for (Future<SeededProject> seededProject : executor.invokeAll(seeders)) {
+      seededProjects.add(seededProject.get());
+    }
+  }
+
+  public void runRandomOperation(Random random, LatencyReport report) {
+    if (random.nextInt(100) < settings.getWritePercent()) {
+      runRandomWrite(random, report);
+    } else {
+      runRandomRead(random, report);
+    }
+  }
+
+  private void runRandomRead(Random random, LatencyReport report) {
+
+    int dice = random.nextInt(100);
+
+    if (dice < 25) {
+      report.time("fetch_projects", () -> apiClient.get(
+          ProjectController.FETCH_PROJECT, Map.of("limit", 50), "application/json"));
+    } else if (dice < 35) {
+      report.time("fetch_projects_by_prefix", () -> apiClient.get(
+          ProjectController.FETCH_PROJECT,
+          Map.of("prefix_name", "load-test-" + runId + "-" + random.nextInt(10)),
+          "application/json"));
+    } else if (dice < 40) {
+      report.time("stream_projects", () -> apiClient.get(
+          ProjectController.FETCH_PROJECT, Map.of(), NDJSON));
+    } else if (dice < 70) {
+      getTaskStates(randomProject(random), report);
+    } else {
+      getTaskStatesIfNoneMatch(randomProject(random), report);
+    }
+  }
+
+  private void runRandomWrite(Random random, LatencyReport report) {
+
+    int dice = random.nextInt(100);
+
+    if (dice < 8) {
+      createProject(report);
+    } else if (dice < 14) {
+      deleteProject(report);
+    } else if (dice < 24) {
+      editProject(randomProject(random), report);
+    } else if (dice < 36) {
+      createTaskState(randomProject(random), report);
+    } else if (dice < 46) {
+      deleteTaskState(random, report);
+    } else if (dice < 60) {
+      updateTaskState(random, report);
+    } else if (dice < 90) {
+      changeTaskStatePosition(random, report);
+    } else {
+      applyTaskStateOperations(random, report);
+    }
+  }
+
+  private void getTaskStates(SeededProject project, LatencyReport report) {
+
+    ApiResponse response = report.time("get_task_states", () -> apiClient.get(
+        path(TaskStateController.GET_TASK_STATES, project.getId()), Map.of(), "application/json"));
+
+    if (response.getEtag() != null) {
+      boardEtags.put(project.getId(), response.getEtag());
+    }
+  }
+
+  private void getTaskStatesIfNoneMatch(SeededProject project, LatencyReport report) {
+
+    String etag = boardEtags.get(project.getId());
+
+    if (etag == null) {
+      getTaskStates(project, report);
+      return;
+    }
+
+    ApiResponse response = report.time("get_task_states_if_none_match", () -> apiClient.getIfNoneMatch(
+        path(TaskStateController.GET_TASK_STATES, project.getId()), etag));
+
+    if (response.getEtag() != null) {
+      boardEtags.put(project.getId(), response.getEtag());
+    }
+  }
+
+  private void createProject(LatencyReport report) {
+
+    ApiResponse response = report.time("create_project", () -> apiClient.post(
+        ProjectController.CREATE_PROJECT, Map.of("name", nextName("project"))));
+
+    if (response.isSuccessful()) {
+      createdProjectIds.add(readId(response));
+    }
+  }
+
+  private void deleteProject(LatencyReport report) {
+
+    Long projectId = createdProjectIds.poll();
+
+    if (projectId == null) {
+      createProject(report);
+      return;
+    }
+
+    report.time("delete_project", () -> apiClient.delete(
+        path(ProjectController.DELETE_PROJECT, projectId)));
+  }
+
+  private void editProject(SeededProject project, LatencyReport report) {
+    report.time("edit_project", () -> apiClient.patch(
+        path(ProjectController.EDIT_PROJECT, project.getId()),
+        Map.of("name", project.getName() + "-" + nameSequence.incrementAndGet())));
+  }
+
+  private void createTaskState(SeededProject project, LatencyReport report) {
+
+    ApiResponse response = report.time("create_task_state", () -> apiClient.post(
+        path(TaskStateController.CREATE_TASK_STATE, project.getId()),
+        Map.of("task_state_name", nextName("state"))));
+
+    if (response.isSuccessful()) {
+      createdTaskStateIds.add(readId(response));
+    }
+  }
+
+  private void deleteTaskState(Random random, LatencyReport report) {
+
+    Long taskStateId = createdTaskStateIds.poll();
+
+    if (taskStateId == null) {
+      createTaskState(randomProject(random), report);
+      return;
+    }
+
+    report.time("delete_task_state", () -> apiClient.delete(
+        path(TaskStateController.DELETE_TASK_STATE, taskStateId)));
+  }
+
+  private void updateTaskState(Random random, LatencyReport report) {
+
+    Long taskStateId = randomTaskStateId(randomProject(random), random);
+
+    report.time("update_task_state", () -> apiClient.patch(
+        path(TaskStateController.UPDATE_TASK_STATE, taskStateId),
+        Map.of("task_state_name", nextName("state"))));
+  }
+
+  private void changeTaskStatePosition(Random random, LatencyReport report) {
+
+    SeededProject project = randomProject(random);
+
+    Long taskStateId = randomTaskStateId(project, random);
+    Long leftTaskStateId = randomTaskStateId(project, random);
+
+    Map<String, ?> params = random.nextInt(10) == 0 || taskStateId.equals(leftTaskStateId)
+        ? Map.of()
+        : Map.of("left_task_state_id", leftTaskStateId);
+
+    report.time("change_task_state_position", () -> apiClient.patch(
+        path(TaskStateController.CHANGE_TASK_STATE_POSITION, taskStateId), params));
+  }
+
+  private void applyTaskStateOperations(Random random, LatencyReport report) {
+
+    SeededProject project = randomProject(random);
+
+    List<Long> taskStateIds = new ArrayList<>(project.getTaskStateIds());
+    Collections.shuffle(taskStateIds, random);
+
+    List<TaskStateOperationDto> operations = List.of(
+        TaskStateOperationDto.builder()
+            .type(TaskStateOperationDto.Type.MOVE)
+            .taskStateId(taskStateIds.get(0))
+            .leftTaskStateId(taskStateIds.get(1))
+            .build(),
+        TaskStateOperationDto.builder()
+            .type(TaskStateOperationDto.Type.RENAME)
+            .taskStateId(taskStateIds.get(1))
+            .taskStateName(nextName("state"))
+            .build()
+    );
+
+    byte[] body = writeJson(operations);
+
+    report.time("apply_task_state_operations", () -> apiClient.postJson(
+        path(TaskStateController.APPLY_TASK_STATE_OPERATIONS, project.getId()), body));
+  }
+
+  private SeededProject seedProject(int index) {
+
+    String name = "load-test-" + runId + "-" + index;
+
+    Long projectId = readId(requireSuccess(apiClient.post(
+        ProjectController.CREATE_PROJECT, Map.of("name", name))));
+
+    List<Long> taskStateIds = new ArrayList<>(settings.getTaskStatesPerProject());
+
+    for (int i = 0; i < settings.getTaskStatesPerProject(); i++) {
+
+      Long taskStateId = readId(requireSuccess(apiClient.post(
+          path(TaskStateController.CREATE_TASK_STATE, projectId),
+          Map.of("task_state_name", "state-" + i))));
+
+      for (int created = 0; created < settings.getTasksPerTaskState(); ) {
+
+        int count = Math.min(
+            TaskController.MAX_BULK_TASKS,
+            settings.getTasksPerTaskState() - created);
+
+        List<NewTaskDto> tasks = new ArrayList<>(count);
+        for (int j = 0; j < count; j++, created++) {
+          tasks.add(NewTaskDto.builder()
+              .name("task-" + created)
+              .description("Seeded task " + created + " of state " + i + " in " + name)
+              .build());
+        }
+
+        requireSuccess(apiClient.postJson(path(TaskController.CREATE_TASKS, taskStateId), writeJson(tasks)));
+      }
+
+      taskStateIds.add(taskStateId);
+    }
+
+    if (taskStateIds.size() < 2) {
+      throw new IllegalStateException("Load test needs at least 2 task states per project");
+    }
+
+    return new SeededProject(projectId, name, taskStateIds);
+  }
+
+  private SeededProject randomProject(Random random) {
+    return seededProjects.get(random.nextInt(seededProjects.size()));
+  }
+
+  private static Long randomTaskStateId(SeededProject project, Random random) {
+    return project.getTaskStateIds().get(random.nextInt(project.getTaskStateIds().size()));
+  }
+
+  private String nextName(String kind) {
+    return String.format("%s-%s-%d", kind, runId, nameSequence.incrementAndGet());
+  }
+
+  private static String path(String template, Long id) {
+    return template.replaceFirst("\\{[a-z_]+}", id.toString());
+  }
+
+  private static ApiResponse requireSuccess(ApiResponse response) {
+
+    if (!response.isSuccessful()) {
+      throw new IllegalStateException(String.format(
+          "Seeding request failed with %d: %s",
+          response.getStatus(),
+          new String(response.getBody(), StandardCharsets.UTF_8)));
+    }
+
+    return response;
+  }
+
+  private Long readId(ApiResponse response) {
+    try {
+      return objectMapper.readTree(response.getBody()).get("id").asLong();
+    } catch (IOException ex) {
+      throw new UncheckedIOException(ex);
+    }
+  }
+
+  private byte[] writeJson(Object value) {
+    try {
+      return objectMapper.writeValueAsBytes(value);
+    } catch (IOException ex) {
+      throw new UncheckedIOException(ex);
+    }
+  }
+
+  @Value
+  private static class SeededProject {
+
+    Long id;
+
+    String name;
+
+    List<Long> taskStateIds;
+  }
+}
@@ -0,0 +1,99 @@
+package org.example.api.admission;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Concurrency limit with a bounded wait queue. The limit follows observed latency: additive
+ * increase while saturated and within the target, multiplicative decrease when over it.
+ */
+public class AdaptiveLimiter {
+
+  private static final double BACKOFF_RATIO = 0.9;
+
+  private final AdmissionProperties.Limits limits;
+
+  private final long latencyTargetNanos;
+
+  private double limit;
+
+  private int inFlight;
+
+  private int waiting;
+
+  private long lastDecreaseNanos;
+
+  public AdaptiveLimiter(AdmissionProperties.Limits limits) {
+    this.limits = limits;
+    this.latencyTargetNanos = limits.getLatencyTarget().toNanos();
+    this.limit = limits.getInitialLimit();
+  }
+
+  /**
+   * Returns false if no slot frees up within the max wait or the queue is already full.
+   */
+  public synchronized boolean acquire() throws InterruptedException {
+
+    if (inFlight < getLimit()) {
+      inFlight++;
+      return true;
+    }
+
+    if (waiting >= limits.getMaxQueue()) {
+      return false;
+    }
+
+    long deadline = System.nanoTime() + limits.getMaxWait().toNanos();
+
+    waiting++;
+    try {
+      while (inFlight >= getLimit()) {
+
+        long remaining = deadline - System.nanoTime();
+        if (remaining <= 0) {
+          return false;
+        }
+
+        TimeUnit.NANOSECONDS.timedWait(this, remaining);
+      }
+
+      inFlight++;
+      return true;
+    } finally {
+      waiting--;
+    }
+  }
+
+  public synchronized void release(long latencyNanos) {
+
+    boolean saturated = inFlight >= getLimit();
+
+    inFlight--;
+
+    if (latencyNanos > latencyTargetNanos) {
+
+      long now = System.nanoTime();
+
+      // At most one decrease per target interval, so one slow burst doesn't collapse the limit
+      if (now - lastDecreaseNanos > latencyTargetNanos) {
+        limit = Math.max(limits.getMinLimit(), limit * BACKOFF_RATIO);
+        lastDecreaseNanos = now;
+      }
+    } else if (saturated) {
+      limit = Math.min(limits.getMaxLimit(), limit + 1 / limit);
+    }
+
+    notifyAll();
+  }
+
+  public synchronized int getLimit() {
+    return (int) limit;
+  }
+
+  public synchronized int getInFlight() {
+    return inFlight;
+  }
+
+  public synchronized int getWaiting() {
+    return waiting;
+  }
+}
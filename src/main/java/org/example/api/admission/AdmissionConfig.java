@@ -0,0 +1,20 @@
+package org.example.api.admission;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+@EnableConfigurationProperties(AdmissionProperties.class)
+@ConditionalOnProperty(name = "task-tracker.admission.enabled", havingValue = "true", matchIfMissing = true)
+@Configuration(proxyBeanMethods = false)
+public class AdmissionConfig {
+
+  @Bean
+  public AdmissionFilter admissionFilter(
+      AdmissionProperties admissionProperties,
+      MeterRegistry meterRegistry) {
+    return new AdmissionFilter(admissionProperties, meterRegistry);
+  }
+}
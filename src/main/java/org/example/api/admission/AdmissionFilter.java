@@ -0,0 +1,226 @@
+package org.example.api.admission;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.io.IOException;
+import java.util.List;
+import javax.servlet.AsyncEvent;
+import javax.servlet.AsyncListener;
+import javax.servlet.FilterChain;
+import javax.servlet.ServletException;
+import javax.servlet.http.HttpServletRequest;
+import javax.servlet.http.HttpServletResponse;
+import org.example.api.controllers.ProjectController;
+import org.example.api.controllers.ProjectTransferController;
+import org.example.api.controllers.TaskController;
+import org.example.api.controllers.TaskStateController;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.MediaType;
+import org.springframework.util.AntPathMatcher;
+import org.springframework.util.PathMatcher;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+/**
+ * Admits board, project list and search reads, API writes and bulk writes through separate
+ * adaptive limiters, so a spike waits briefly in a bounded queue or gets a fast 503 instead of
+ * tying up every Tomcat thread on the Hikari pool. Other requests, like event streams, pass
+ * through untouched.
+ */
+public class AdmissionFilter extends OncePerRequestFilter {
+
+  private static final List<String> LIMITED_READS = List.of(
+      ProjectController.FETCH_PROJECT,
+      TaskStateController.GET_TASK_STATES,
+      TaskController.SEARCH_TASKS,
+      TaskController.SEARCH_PROJECT_TASKS
+  );
+
+  // Imports stream their body and bulk creation writes up to MAX_BULK_TASKS rows
+  private static final List<String> BULK_WRITES = List.of(
+      ProjectTransferController.IMPORT_PROJECT,
+      TaskController.CREATE_TASKS
+  );
+
+  private static final String API = "/api/**";
+
+  private final PathMatcher pathMatcher = new AntPathMatcher();
+
+  private final AdaptiveLimiter readLimiter;
+
+  private final AdaptiveLimiter writeLimiter;
+
+  private final AdaptiveLimiter bulkWriteLimiter;
+
+  private final Counter readRejections;
+
+  private final Counter writeRejections;
+
+  private final Counter bulkWriteRejections;
+
+  private final String retryAfterSeconds;
+
+  public AdmissionFilter(AdmissionProperties admissionProperties, MeterRegistry meterRegistry) {
+
+    readLimiter = new AdaptiveLimiter(admissionProperties.getReads());
+    writeLimiter = new AdaptiveLimiter(admissionProperties.getWrites());
+    bulkWriteLimiter = new AdaptiveLimiter(admissionProperties.getBulkWrites());
+
+    readRejections = registerMeters(meterRegistry, "reads", readLimiter);
+    writeRejections = registerMeters(meterRegistry, "writes", writeLimiter);
+    bulkWriteRejections = registerMeters(meterRegistry, "bulk_writes", bulkWriteLimiter);
+
+    retryAfterSeconds = Long.toString(
+        Math.max(1, admissionProperties.getRetryAfter().toSeconds()));
+  }
+
+  @Override
+  protected void doFilterInternal(
+      HttpServletRequest request,
+      HttpServletResponse response,
+      FilterChain filterChain) throws ServletException, IOException {
+
+    String path = request.getRequestURI().substring(request.getContextPath().length());
+
+    AdaptiveLimiter limiter;
+    Counter rejections;
+
+    if (isRead(request.getMethod(), path) && !isStream(request)) {
+      limiter = readLimiter;
+      rejections = readRejections;
+    } else if (isWrite(request.getMethod(), path)) {
+
+      if (isBulkWrite(path)) {
+        limiter = bulkWriteLimiter;
+        rejections = bulkWriteRejections;
+      } else {
+        limiter = writeLimiter;
+        rejections = writeRejections;
+      }
+    } else {
+      filterChain.doFilter(request, response);
+      return;
+    }
+
+    boolean admitted;
+    try {
+      admitted = limiter.acquire();
+    } catch (InterruptedException ex) {
+      Thread.currentThread().interrupt();
+      admitted = false;
+    }
+
+    if (!admitted) {
+      rejections.increment();
+      response.setHeader(HttpHeaders.RETRY_AFTER, retryAfterSeconds);
+      response.sendError(HttpServletResponse.SC_SERVICE_UNAVAILABLE, "Server is overloaded");
+      return;
+    }
+
+    long start = System.nanoTime();
+
+    boolean async = false;
+    try {
+      filterChain.doFilter(request, response);
+
+      // Async handlers, like the R2DBC reads, hold their slot until the response completes
+      if (request.isAsyncStarted()) {
+        async = true;
+        request.getAsyncContext().addListener(new ReleasingAsyncListener(limiter, start));
+      }
+    } finally {
+      if (!async) {
+        limiter.release(System.nanoTime() - start);
+      }
+    }
+  }
+
+  private boolean isRead(String method, String path) {
+    return HttpMethod.GET.matches(method)
+        && LIMITED_READS.stream().anyMatch(pattern -> pathMatcher.match(pattern, path));
+  }
+
+  // NDJSON exports are long by design, their latency would only drag the read limit down
+  private static boolean isStream(HttpServletRequest request) {
+
+    String accept = request.getHeader(HttpHeaders.ACCEPT);
+
+    return accept != null && accept.contains(MediaType.APPLICATION_NDJSON_VALUE);
+  }
+
+  private boolean isWrite(String method, String path) {
+    return !HttpMethod.GET.matches(method)
+        && !HttpMethod.HEAD.matches(method)
+        && !HttpMethod.OPTIONS.matches(method)
+        && pathMatcher.match(API, path);
+  }
+
+  private boolean isBulkWrite(String path) {
+    return BULK_WRITES.stream().anyMatch(pattern -> pathMatcher.match(pattern, path));
+  }
+
+  private static Counter registerMeters(
+      MeterRegistry meterRegistry,
+      String requestClass,
+      AdaptiveLimiter limiter) {
+
+    Gauge.builder("admission.limit", limiter, AdaptiveLimiter::getLimit)
+        .tag("class", requestClass)
+        .register(meterRegistry);
+
+    Gauge.builder("admission.in_flight", limiter, AdaptiveLimiter::getInFlight)
+        .tag("class", requestClass)
+        .register(meterRegistry);
+
+    Gauge.builder("admission.waiting", limiter, AdaptiveLimiter::getWaiting)
+        .tag("class", requestClass)
+        .register(meterRegistry);
+
+    return Counter.builder("admission.rejected")
+        .tag("class", requestClass)
+        .register(meterRegistry);
+  }
+
+  private static class ReleasingAsyncListener implements AsyncListener {
+
+    private final AdaptiveLimiter limiter;
+
+    private final long start;
+
+    private boolean released;
+
+    ReleasingAsyncListener(AdaptiveLimiter limiter, long start) {
+      this.limiter = limiter;
+      this.start = start;
+    }
+
+    @Override
+    public void onComplete(AsyncEvent event) {
+      release();
+    }
+
+    @Override
+    public void onTimeout(AsyncEvent event) {
+      release();
+    }
+
+    @Override
+    public void onError(AsyncEvent event) {
+      release();
+    }
+
+    @Override
+    public void onStartAsync(AsyncEvent event) {
+      event.getAsyncContext().addListener(this);
+    }
+
+    // Timeouts and errors are followed by onComplete, only the first call counts
+    private synchronized void release() {
+      if (!released) {
+        released = true;
+        limiter.release(System.nanoTime() - start);
+      }
+    }
+  }
+}
@@ -0,0 +1,53 @@
+package org.example.api.admission;
+
+import java.time.Duration;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+@Data
+@ConfigurationProperties("task-tracker.admission")
+public class AdmissionProperties {
+
+  private boolean enabled = true;
+
+  /**
+   * Sent as Retry-After with every 503.
+   */
+  private Duration retryAfter = Duration.ofSeconds(1);
+
+  private Limits reads = new Limits(20, 4, 100, 50, Duration.ofMillis(200), Duration.ofMillis(100));
+
+  private Limits writes = new Limits(10, 2, 40, 20, Duration.ofMillis(500), Duration.ofMillis(300));
+
+  /**
+   * Imports and bulk task creation. They run for seconds by design, so they get their own small
+   * limit instead of dragging the write limit down.
+   */
+  private Limits bulkWrites = new Limits(2, 1, 4, 4, Duration.ofSeconds(1), Duration.ofSeconds(30));
+
+  @Data
+  @NoArgsConstructor
+  @AllArgsConstructor
+  public static class Limits {
+
+    private int initialLimit;
+
+    private int minLimit;
+
+    private int maxLimit;
+
+    /**
+     * Requests allowed to wait for a slot. Beyond that they are rejected immediately.
+     */
+    private int maxQueue;
+
+    private Duration maxWait;
+
+    /**
+     * Responses slower than this shrink the limit, faster ones at full concurrency grow it.
+     */
+    private Duration latencyTarget;
+  }
+}
@@ -0,0 +1,31 @@
+package org.example.api.controllers;
+
+import javax.transaction.Transactional;
+import lombok.RequiredArgsConstructor;
+import org.example.api.controllers.helpers.BoardEventPublisher;
+import org.example.api.controllers.helpers.ControllerHelper;
+import org.springframework.http.MediaType;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+@RequiredArgsConstructor
+@Transactional
+@RestController
+public class BoardEventController {
+
+  private final BoardEventPublisher boardEventPublisher;
+
+  private final ControllerHelper controllerHelper;
+
+  public static final String SUBSCRIBE_BOARD_EVENTS = "/api/projects/{project_id}/events";
+
+  @GetMapping(value = SUBSCRIBE_BOARD_EVENTS, produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+  public SseEmitter subscribeBoardEvents(@PathVariable("project_id") Long projectId) {
+
+    controllerHelper.getProjectOrThrowException(projectId);
+
+    return boardEventPublisher.subscribe(projectId);
+  }
+}
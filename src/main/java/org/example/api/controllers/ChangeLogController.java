@@ -0,0 +1,173 @@
+package org.example.api.controllers;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+import javax.transaction.Transactional;
+import lombok.AccessLevel;
+import lombok.RequiredArgsConstructor;
+import lombok.experimental.FieldDefaults;
+import org.example.api.controllers.helpers.ControllerHelper;
+import org.example.api.dto.ChangesDto;
+import org.example.api.dto.TaskChangeDto;
+import org.example.api.dto.TaskStateChangeDto;
+import org.example.api.exceptions.BadRequestException;
+import org.example.api.factories.ProjectDtoFactory;
+import org.example.api.factories.TaskDtoFactory;
+import org.example.store.entities.ChangeLogEntity;
+import org.example.store.entities.ProjectEntity;
+import org.example.store.entities.TaskEntity;
+import org.example.store.entities.TaskStateEntity;
+import org.example.store.repositories.ChangeLogRepository;
+import org.example.store.repositories.TaskRepository;
+import org.example.store.repositories.TaskStateRepository;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+@RequiredArgsConstructor
+@FieldDefaults(level = AccessLevel.PRIVATE, makeFinal = true)
+@Transactional
+@RestController
+public class ChangeLogController {
+
+  ChangeLogRepository changeLogRepository;
+
+  TaskStateRepository taskStateRepository;
+
+  TaskRepository taskRepository;
+
+  ControllerHelper controllerHelper;
+
+  ProjectDtoFactory projectDtoFactory;
+
+  TaskDtoFactory taskDtoFactory;
+
+  public static final String GET_CHANGES = "/api/projects/{project_id}/changes";
+
+  public static final int MAX_CHANGES_LIMIT = 10_000;
+
+  @GetMapping(GET_CHANGES)
+  public ChangesDto getChanges(
+      @PathVariable(name = "project_id") Long projectId,
+      @RequestParam(name = "since", defaultValue = "0") Long since,
+      @RequestParam(name = "limit", defaultValue = "1000") Integer limit) {
+
+    if (since < 0) {
+      throw new BadRequestException("Since can't be negative.");
+    }
+
+    if (limit < 1 || limit > MAX_CHANGES_LIMIT) {
+      throw new BadRequestException(
+          String.format("Limit must be between 1 and %d", MAX_CHANGES_LIMIT));
+    }
+
+    ProjectEntity project = controllerHelper.getProjectOrThrowException(projectId);
+
+    ChangeLogRepository.SeqRange seqRange = changeLogRepository.findSeqRange(projectId);
+
+    if (since < seqRange.getMinSeq() || since > seqRange.getLastSeq()) {
+      return ChangesDto.builder()
+          .projectId(projectId)
+          .nextSince(seqRange.getLastSeq())
+          .resyncRequired(true)
+          .taskStates(List.of())
+          .deletedTaskStateIds(List.of())
+          .tasks(List.of())
+          .deletedTaskIds(List.of())
+          .build();
+    }
+
+    List<ChangeLogEntity> entries = changeLogRepository
+        .findAllByProjectIdAndSeqGreaterThanOrderBySeqAsc(projectId, since, PageRequest.of(0, limit + 1));
+
+    boolean hasMore = entries.size() > limit;
+    if (hasMore) {
+      entries = entries.subList(0, limit);
+    }
+
+    boolean projectChanged = false;
+    Map<Long, Boolean> taskStateDeletions = new LinkedHashMap<>();
+    Map<Long, Boolean> taskDeletions = new LinkedHashMap<>();
+
+    for (ChangeLogEntity entry : entries) {
+      switch (entry.getEntityType()) {
+
+        case PROJECT:
+          projectChanged = true;
+          break;
+
+        case TASK_STATE:
+          taskStateDeletions.put(entry.getEntityId(), entry.isDeleted());
+          break;
+
+        case TASK:
+          taskDeletions.put(entry.getEntityId(), entry.isDeleted());
+          break;
+      }
+    }
+
+    List<TaskStateChangeDto> taskStates = taskStateRepository
+        .findAllById(getUpsertedIds(taskStateDeletions))
+        .stream()
+        .sorted(Comparator.comparing(TaskStateEntity::getId))
+        .map(taskState -> TaskStateChangeDto.builder()
+            .id(taskState.getId())
+            .name(taskState.getName())
+            .createdAt(taskState.getCreatedAt())
+            .build())
+        .collect(Collectors.toList());
+
+    List<TaskChangeDto> tasks = taskRepository
+        .findAllById(getUpsertedIds(taskDeletions))
+        .stream()
+        .sorted(Comparator.comparing(TaskEntity::getId))
+        .map(task -> TaskChangeDto.builder()
+            .taskStateId(task.getTaskState().getId())
+            .task(taskDtoFactory.makeTaskDto(task))
+            .build())
+        .collect(Collectors.toList());
+
+    return ChangesDto.builder()
+        .projectId(projectId)
+        .nextSince(entries.isEmpty() ? since : entries.get(entries.size() - 1).getSeq())
+        .hasMore(hasMore)
+        .project(projectChanged ? projectDtoFactory.makeProjectDto(project) : null)
+        .taskStates(taskStates)
+        .deletedTaskStateIds(getDeletedIds(
+            taskStateDeletions, taskStates.stream().map(TaskStateChangeDto::getId)))
+        .taskStateOrder(taskStateDeletions.isEmpty()
+            ? null
+            : taskStateRepository.findIdsByProjectIdOrderByRankAsc(projectId))
+        .tasks(tasks)
+        .deletedTaskIds(getDeletedIds(
+            taskDeletions, tasks.stream().map(task -> task.getTask().getId())))
+        .build();
+  }
+
+  private static List<Long> getUpsertedIds(Map<Long, Boolean> deletions) {
+    return deletions.entrySet()
+        .stream()
+        .filter(entry -> !entry.getValue())
+        .map(Map.Entry::getKey)
+        .collect(Collectors.toList());
+  }
+
+  // Upserted entities that are gone by now were deleted after the last entry we read
+  private static List<Long> getDeletedIds(
+      Map<Long, Boolean> deletions,
+      Stream<Long> foundIds) {
+
+    List<Long> deletedIds = new ArrayList<>(deletions.keySet());
+
+    deletedIds.removeAll(foundIds.collect(Collectors.toSet()));
+
+    return deletedIds;
+  }
+}
@@ -1,25 +1,55 @@
 package org.example.api.controllers;
 
+import com.fasterxml.jackson.databind.ObjectMapper;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
 import java.util.List;
+import java.util.Locale;
 import java.util.Optional;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
+import javax.persistence.EntityManager;
 import javax.transaction.Transactional;
 import lombok.RequiredArgsConstructor;
+import org.example.api.controllers.helpers.BoardEventPublisher;
+import org.example.api.controllers.helpers.ChangeLogHelper;
+import org.example.api.controllers.helpers.ChangeLogHelper.Change;
+import org.example.api.controllers.helpers.ChangeVersionHelper;
 import org.example.api.controllers.helpers.ControllerHelper;
+import org.example.api.controllers.helpers.IdempotencyHelper;
+import org.example.api.controllers.helpers.ProjectCursor;
+import org.example.api.controllers.helpers.ProjectNameIndex;
+import org.example.api.controllers.helpers.ProjectPurger;
+import org.example.api.controllers.helpers.ReadYourWritesHelper;
 import org.example.api.dto.AckDto;
+import org.example.api.dto.BoardEventDto;
+import org.example.api.dto.DeletionStatusDto;
 import org.example.api.dto.ProjectDto;
+import org.example.api.dto.ProjectPageDto;
+import org.example.api.encoding.BinaryEncodingConfig;
 import org.example.api.exceptions.BadRequestException;
 import org.example.api.factories.ProjectDtoFactory;
+import org.example.store.datasource.ReadOnlyTransactional;
+import org.example.store.entities.ChangeLogEntity.EntityType;
 import org.example.store.entities.ProjectEntity;
 import org.example.store.repositories.ProjectRepository;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.transaction.support.TransactionTemplate;
 import org.springframework.web.bind.annotation.DeleteMapping;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PatchMapping;
 import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestHeader;
 import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.context.request.WebRequest;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
 @RequiredArgsConstructor
 @Transactional
@@ -30,48 +60,208 @@ public class ProjectController {
 
   private final ProjectRepository projectRepository;
 
+  private final ProjectPurger projectPurger;
+
+  private final IdempotencyHelper idempotencyHelper;
+
   private final ControllerHelper controllerHelper;
 
+  private final TransactionTemplate transactionTemplate;
+
+  private final EntityManager entityManager;
+
+  private final ObjectMapper objectMapper;
+
+  private final ProjectNameIndex projectNameIndex;
+
+  private final ChangeVersionHelper changeVersionHelper;
+
+  private final BoardEventPublisher boardEventPublisher;
+
+  private final ChangeLogHelper changeLogHelper;
+
+  private final ReadYourWritesHelper readYourWritesHelper;
+
+  public static final int MAX_PROJECT_PAGE_LIMIT = 500;
+
   public static final String FETCH_PROJECT = "/api/projects";
   public static final String CREATE_PROJECT = "/api/projects";
   public static final String EDIT_PROJECT = "/api/projects/{project_id}";
   public static final String DELETE_PROJECT = "/api/projects/{project_id}";
+  public static final String GET_PROJECT_DELETION = "/api/projects/{project_id}/deletion";
+
+
+  /**
+   * The original unpaged array, kept for clients that pass neither {@code cursor} nor {@code
+   * limit}. NDJSON requests fall through to {@link #streamProjects}.
+   */
+  @ReadOnlyTransactional
+  @GetMapping(
+      value = FETCH_PROJECT,
+      params = {"!cursor", "!limit"},
+      produces = {
+          MediaType.APPLICATION_JSON_VALUE,
+          MediaType.APPLICATION_CBOR_VALUE,
+          BinaryEncodingConfig.APPLICATION_SMILE_VALUE
+      }
+  )
+  public List<ProjectDto> fetchAllProjects(
+      @RequestParam(value = "prefix_name", required = false) Optional<String> optionalPrefixName,
+      WebRequest webRequest) {
+
+    String representation = BinaryEncodingConfig.getRepresentation(
+        webRequest.getHeader(HttpHeaders.ACCEPT)) + ".all";
+
+    readYourWritesHelper.readProjectListFromPrimaryIfRecentlyChanged();
+
+    if (webRequest.checkNotModified(changeVersionHelper.getProjectListEtag(representation))) {
+      return null;
+    }
+
+    Optional<String> optionalNonEmptyPrefixName = optionalPrefixName
+        .filter(prefixName -> !prefixName.trim().isEmpty());
+
+    if (optionalNonEmptyPrefixName.isPresent() && projectNameIndex.isReady()) {
+      return projectNameIndex
+          .streamByPrefix(optionalNonEmptyPrefixName.get())
+          .collect(Collectors.toList());
+    }
+
+    try (Stream<ProjectEntity> projectStream = optionalNonEmptyPrefixName
+        .map(projectRepository::streamAllByNameStartsWithIgnoreCase)
+        .orElseGet(projectRepository::streamAllBy)) {
 
+      return projectStream
+          .map(projectDtoFactory::makeProjectDto)
+          .collect(Collectors.toList());
+    }
+  }
 
+  @ReadOnlyTransactional
   @GetMapping(FETCH_PROJECT)
-  public List<ProjectDto> fetchProjects(
-      @RequestParam(value = "prefix_name", required = false) Optional<String> optionalPrefixName) {
+  public ProjectPageDto fetchProjects(
+      @RequestParam(value = "prefix_name", required = false) Optional<String> optionalPrefixName,
+      @RequestParam(value = "cursor", required = false) Optional<String> optionalCursor,
+      @RequestParam(value = "limit", defaultValue = "50") Integer limit,
+      WebRequest webRequest) {
+
+    if (limit < 1 || limit > MAX_PROJECT_PAGE_LIMIT) {
+      throw new BadRequestException(
+          String.format("Limit must be between 1 and %d", MAX_PROJECT_PAGE_LIMIT));
+    }
+
+    String representation = BinaryEncodingConfig.getRepresentation(
+        webRequest.getHeader(HttpHeaders.ACCEPT));
+
+    readYourWritesHelper.readProjectListFromPrimaryIfRecentlyChanged();
+
+    if (webRequest.checkNotModified(changeVersionHelper.getProjectListEtag(representation))) {
+      return null;
+    }
 
     optionalPrefixName = optionalPrefixName.filter(prefixName -> !prefixName.trim().isEmpty());
 
-    Stream<ProjectEntity> projectStream = optionalPrefixName
-        .map(projectRepository::streamAllByNameStartsWithIgnoreCase)
-        .orElseGet(projectRepository::streamAllBy);
+    ProjectCursor cursor = optionalCursor
+        .map(ProjectCursor::decode)
+        .orElse(ProjectCursor.START);
+
+    List<ProjectDto> projects;
 
-    return projectStream
-        .map(projectDtoFactory::makeProjectDto)
-        .collect(Collectors.toList());
+    if (optionalPrefixName.isPresent() && projectNameIndex.isReady()) {
+
+      projects = projectNameIndex.findByPrefix(optionalPrefixName.get(), cursor, limit + 1);
+    } else {
+
+      Pageable pageable = PageRequest.of(0, limit + 1);
+
+      projects = optionalPrefixName
+          .map(prefixName -> projectRepository.findAllByNamePrefixAfter(
+              prefixName.toLowerCase(Locale.ROOT),
+              cursor.getName(),
+              cursor.getId(),
+              pageable))
+          .orElseGet(() -> projectRepository
+              .findAllByIdGreaterThanOrderByIdAsc(cursor.getId(), pageable))
+          .stream()
+          .map(projectDtoFactory::makeProjectDto)
+          .collect(Collectors.toList());
+    }
+
+    String nextCursor = null;
+    if (projects.size() > limit) {
+      projects = projects.subList(0, limit);
+      nextCursor = ProjectCursor.of(projects.get(limit - 1)).encode();
+    }
+
+    return ProjectPageDto.builder()
+        .projects(projects)
+        .nextCursor(nextCursor)
+        .build();
   }
 
+  @GetMapping(value = FETCH_PROJECT, produces = MediaType.APPLICATION_NDJSON_VALUE)
+  public ResponseEntity<StreamingResponseBody> streamProjects(
+      @RequestParam(value = "prefix_name", required = false) Optional<String> optionalPrefixName,
+      WebRequest webRequest) {
+
+    if (webRequest.checkNotModified(changeVersionHelper.getProjectListEtag("ndjson"))) {
+      return null;
+    }
+
+    Optional<String> optionalNonEmptyPrefixName = optionalPrefixName
+        .filter(prefixName -> !prefixName.trim().isEmpty());
+
+    if (optionalNonEmptyPrefixName.isPresent() && projectNameIndex.isReady()) {
+
+      StreamingResponseBody body = outputStream -> projectNameIndex
+          .streamByPrefix(optionalNonEmptyPrefixName.get())
+          .forEach(project -> writeNdjsonLine(outputStream, project));
+
+      return ResponseEntity
+          .ok()
+          .contentType(MediaType.APPLICATION_NDJSON)
+          .body(body);
+    }
+
+    StreamingResponseBody body = outputStream -> transactionTemplate.executeWithoutResult(status -> {
+
+      try (Stream<ProjectEntity> projectStream = optionalNonEmptyPrefixName
+          .map(projectRepository::streamAllByNameStartsWithIgnoreCase)
+          .orElseGet(projectRepository::streamAllBy)) {
+
+        projectStream.forEach(project -> {
+
+          writeNdjsonLine(outputStream, projectDtoFactory.makeProjectDto(project));
+
+          entityManager.detach(project);
+        });
+      }
+    });
+
+    return ResponseEntity
+        .ok()
+        .contentType(MediaType.APPLICATION_NDJSON)
+        .body(body);
+  }
+
+  @Transactional(Transactional.TxType.NOT_SUPPORTED)
   @PostMapping(CREATE_PROJECT)
-  public ProjectDto createProject(@RequestParam String name) {
+  public ProjectDto createProject(
+      @RequestParam String name,
+      @RequestHeader(value = IdempotencyHelper.IDEMPOTENCY_KEY_HEADER, required = false)
+          Optional<String> optionalIdempotencyKey) {
 
     if (name.trim().isEmpty()) {
       throw new BadRequestException("Name cannot be empty");
     }
-    projectRepository
-        .findByName(name)
-        .ifPresent(project -> {
-          throw new BadRequestException(String.format("Project \"%s\" already exists", name));
-        });
 
-    ProjectEntity project = projectRepository.saveAndFlush(
-        ProjectEntity.builder()
-            .name(name)
-            .build()
+    return idempotencyHelper.execute(
+        "POST " + CREATE_PROJECT,
+        optionalIdempotencyKey,
+        name,
+        ProjectDto.class,
+        () -> saveProject(name)
     );
-
-    return projectDtoFactory.makeProjectDto(project);
   }
 
   @PatchMapping(EDIT_PROJECT)
@@ -83,26 +273,75 @@ public class ProjectController {
     }
     ProjectEntity project = controllerHelper.getProjectOrThrowException(projectId);
 
-    projectRepository
-        .findByName(name)
-        .filter(anotherProject -> !anotherProject.getId().equals(projectId))
-        .ifPresent(projectEntity -> {
-          throw new BadRequestException(String.format("Project \"%s\" already exists", name));
-        });
-
     project.setName(name);
-    project = projectRepository.saveAndFlush(project);
 
-    return projectDtoFactory.makeProjectDto(project);
+    ProjectEntity savedProject = controllerHelper.saveUniqueOrThrowException(
+        () -> projectRepository.saveAndFlush(project),
+        String.format("Project \"%s\" already exists", name)
+    );
+
+    projectNameIndex.putAfterCommit(savedProject);
+
+    changeVersionHelper.projectListChanged();
+
+    boardEventPublisher.publishAfterCommit(BoardEventDto.builder()
+        .seq(changeLogHelper.record(projectId, Change.upserted(EntityType.PROJECT, projectId)))
+        .type(BoardEventDto.Type.PROJECT_RENAMED)
+        .projectId(projectId)
+        .projectName(savedProject.getName())
+        .build());
+
+    return projectDtoFactory.makeProjectDto(savedProject);
   }
 
   @DeleteMapping(DELETE_PROJECT)
   public AckDto deleteProject(@PathVariable("project_id") Long projectId) {
 
-    controllerHelper.getProjectOrThrowException(projectId);
+    ProjectEntity project = controllerHelper.getProjectOrThrowException(projectId);
+
+    projectPurger.markDeleted(project);
 
-    projectRepository.deleteById(projectId);
+    projectNameIndex.removeAfterCommit(projectId);
+
+    changeVersionHelper.projectListChanged();
+
+    boardEventPublisher.publishAfterCommit(BoardEventDto.builder()
+        .type(BoardEventDto.Type.PROJECT_DELETED)
+        .projectId(projectId)
+        .build());
 
     return AckDto.makeDefault(true);
   }
+
+  @GetMapping(GET_PROJECT_DELETION)
+  public DeletionStatusDto getProjectDeletion(@PathVariable("project_id") Long projectId) {
+    return projectPurger.getProjectDeletionStatus(projectId);
+  }
+
+  private ProjectDto saveProject(String name) {
+
+    ProjectEntity project = controllerHelper.saveUniqueOrThrowException(
+        () -> projectRepository.saveAndFlush(
+            ProjectEntity.builder()
+                .name(name)
+                .build()
+        ),
+        String.format("Project \"%s\" already exists", name)
+    );
+
+    projectNameIndex.putAfterCommit(project);
+
+    changeVersionHelper.projectListChanged();
+
+    return projectDtoFactory.makeProjectDto(project);
+  }
+
+  private void writeNdjsonLine(OutputStream outputStream, Object value) {
+    try {
+      outputStream.write(objectMapper.writeValueAsBytes(value));
+      outputStream.write('\n');
+    } catch (IOException ex) {
+      throw new UncheckedIOException(ex);
+    }
+  }
 }
@@ -0,0 +1,86 @@
+package org.example.api.controllers;
+
+import java.io.IOException;
+import java.util.Optional;
+import javax.servlet.http.HttpServletRequest;
+import lombok.AccessLevel;
+import lombok.RequiredArgsConstructor;
+import lombok.experimental.FieldDefaults;
+import org.example.api.controllers.helpers.BoardExporter;
+import org.example.api.controllers.helpers.BoardImporter;
+import org.example.api.controllers.helpers.ControllerHelper;
+import org.example.api.dto.ProjectDto;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+/**
+ * Not {@code @Transactional}: exports run in their own read-only transaction on the streaming
+ * thread and imports commit in batches, so neither may be wrapped in one long transaction.
+ */
+@RequiredArgsConstructor
+@FieldDefaults(level = AccessLevel.PRIVATE, makeFinal = true)
+@RestController
+public class ProjectTransferController {
+
+  BoardExporter boardExporter;
+
+  BoardImporter boardImporter;
+
+  ControllerHelper controllerHelper;
+
+  public static final String TEXT_CSV_VALUE = "text/csv";
+
+  public static final String EXPORT_PROJECT = "/api/projects/{project_id}/export";
+  public static final String IMPORT_PROJECT = "/api/projects/import";
+
+  @GetMapping(value = EXPORT_PROJECT, produces = MediaType.APPLICATION_JSON_VALUE)
+  public ResponseEntity<StreamingResponseBody> exportProjectAsJson(
+      @PathVariable(name = "project_id") Long projectId) {
+
+    controllerHelper.getProjectOrThrowException(projectId);
+
+    return ResponseEntity
+        .ok()
+        .contentType(MediaType.APPLICATION_JSON)
+        .header(HttpHeaders.CONTENT_DISPOSITION,
+            String.format("attachment; filename=\"project-%s.json\"", projectId))
+        .body(outputStream -> boardExporter.writeJson(projectId, outputStream));
+  }
+
+  @GetMapping(value = EXPORT_PROJECT, produces = TEXT_CSV_VALUE)
+  public ResponseEntity<StreamingResponseBody> exportProjectAsCsv(
+      @PathVariable(name = "project_id") Long projectId) {
+
+    controllerHelper.getProjectOrThrowException(projectId);
+
+    return ResponseEntity
+        .ok()
+        .contentType(MediaType.parseMediaType(TEXT_CSV_VALUE))
+        .header(HttpHeaders.CONTENT_DISPOSITION,
+            String.format("attachment; filename=\"project-%s.csv\"", projectId))
+        .body(outputStream -> boardExporter.writeCsv(projectId, outputStream));
+  }
+
+  @PostMapping(value = IMPORT_PROJECT, consumes = MediaType.APPLICATION_JSON_VALUE)
+  public ProjectDto importProjectFromJson(
+      @RequestParam(name = "project_name", required = false) Optional<String> optionalProjectName,
+      HttpServletRequest request) throws IOException {
+
+    return boardImporter.importJson(request.getInputStream(), optionalProjectName);
+  }
+
+  @PostMapping(value = IMPORT_PROJECT, consumes = TEXT_CSV_VALUE)
+  public ProjectDto importProjectFromCsv(
+      @RequestParam(name = "project_name") String projectName,
+      HttpServletRequest request) throws IOException {
+
+    return boardImporter.importCsv(request.getInputStream(), projectName);
+  }
+}
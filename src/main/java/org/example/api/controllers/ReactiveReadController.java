@@ -0,0 +1,190 @@
+package org.example.api.controllers;
+
+import static org.springframework.web.servlet.function.RequestPredicates.GET;
+import static org.springframework.web.servlet.function.RequestPredicates.accept;
+
+import java.util.List;
+import java.util.Locale;
+import java.util.Optional;
+import java.util.stream.Collectors;
+import lombok.RequiredArgsConstructor;
+import org.example.api.controllers.helpers.ChangeVersionHelper;
+import org.example.api.controllers.helpers.ProjectCursor;
+import org.example.api.controllers.helpers.ProjectNameIndex;
+import org.example.api.dto.ProjectDto;
+import org.example.api.dto.ProjectPageDto;
+import org.example.api.exceptions.BadRequestException;
+import org.example.api.exceptions.NotFoundException;
+import org.example.api.factories.ProjectDtoFactory;
+import org.example.api.factories.TaskStateDtoFactory;
+import org.example.store.entities.ProjectEntity;
+import org.example.store.repositories.ReactiveReadRepository;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.Ordered;
+import org.springframework.http.MediaType;
+import org.springframework.web.servlet.function.RouterFunction;
+import org.springframework.web.servlet.function.RouterFunctions;
+import org.springframework.web.servlet.function.ServerRequest;
+import org.springframework.web.servlet.function.ServerResponse;
+import org.springframework.web.servlet.function.support.RouterFunctionMapping;
+import reactor.core.publisher.Mono;
+
+/**
+ * Serves the hot board and project list reads with R2DBC instead of JPA. Handlers return async
+ * responses, so a Tomcat thread isn't held while Postgres answers. Writes stay on the JPA controllers.
+ */
+@RequiredArgsConstructor
+@ConditionalOnProperty(name = "task-tracker.reactive-reads.enabled", havingValue = "true")
+@Configuration(proxyBeanMethods = false)
+public class ReactiveReadController {
+
+  private final ReactiveReadRepository reactiveReadRepository;
+
+  private final ProjectDtoFactory projectDtoFactory;
+
+  private final TaskStateDtoFactory taskStateDtoFactory;
+
+  private final ProjectNameIndex projectNameIndex;
+
+  @Bean
+  public RouterFunction<ServerResponse> reactiveReadRoutes() {
+    return RouterFunctions.route()
+        // Unpaged listings keep the original array response of the MVC controller
+        .route(GET(ProjectController.FETCH_PROJECT)
+                .and(accept(MediaType.APPLICATION_JSON))
+                .and(request -> request.param("cursor").isPresent()
+                    || request.param("limit").isPresent()),
+            this::fetchProjects)
+        // Sparse board reads go to the MVC controller, which has the projection queries
+        .route(GET(TaskStateController.GET_TASK_STATES)
+                .and(accept(MediaType.APPLICATION_JSON))
+                .and(request -> request.param("fields").isEmpty())
+                .and(request -> request.param("include_tasks").isEmpty()),
+            this::getTaskStates)
+        .build();
+  }
+
+  // Functional routes are looked up after annotated controllers by default, move them in front
+  @Bean
+  public static BeanPostProcessor reactiveReadRoutesFirst() {
+    return new BeanPostProcessor() {
+      @Override
+      public Object postProcessAfterInitialization(Object bean, String beanName) {
+
+        if (bean instanceof RouterFunctionMapping) {
+          ((RouterFunctionMapping) bean).setOrder(Ordered.HIGHEST_PRECEDENCE);
+        }
+
+        return bean;
+      }
+    };
+  }
+
+  private ServerResponse fetchProjects(ServerRequest request) {
+
+    int limit = request.param("limit")
+        .map(ReactiveReadController::parseLimit)
+        .orElse(50);
+
+    if (limit < 1 || limit > ProjectController.MAX_PROJECT_PAGE_LIMIT) {
+      throw new BadRequestException(String.format(
+          "Limit must be between 1 and %d", ProjectController.MAX_PROJECT_PAGE_LIMIT));
+    }
+
+    Optional<String> optionalPrefixName = request.param("prefix_name")
+        .filter(prefixName -> !prefixName.trim().isEmpty());
+
+    ProjectCursor cursor = request.param("cursor")
+        .map(ProjectCursor::decode)
+        .orElse(ProjectCursor.START);
+
+    return ServerResponse.async(reactiveReadRepository.findProjectListVersion()
+        .map(version -> ChangeVersionHelper.makeProjectListEtag("json", version))
+        .flatMap(etag -> request.checkNotModified(etag)
+            .map(Mono::just)
+            .orElseGet(() -> findProjectPage(optionalPrefixName, cursor, limit)
+                .map(page -> ServerResponse.ok().eTag(etag).body(page)))));
+  }
+
+  private Mono<ProjectPageDto> findProjectPage(
+      Optional<String> optionalPrefixName,
+      ProjectCursor cursor,
+      int limit) {
+
+    if (optionalPrefixName.isPresent() && projectNameIndex.isReady()) {
+      return Mono.fromSupplier(() -> makeProjectPage(
+          projectNameIndex.findByPrefix(optionalPrefixName.get(), cursor, limit + 1),
+          limit));
+    }
+
+    Mono<List<ProjectEntity>> projects = optionalPrefixName
+        .map(prefixName -> reactiveReadRepository.findProjectsByNamePrefixAfter(
+            prefixName.toLowerCase(Locale.ROOT),
+            cursor.getName(),
+            cursor.getId(),
+            limit + 1))
+        .orElseGet(() -> reactiveReadRepository.findProjectsAfterId(cursor.getId(), limit + 1));
+
+    return projects
+        .map(entities -> entities
+            .stream()
+            .map(projectDtoFactory::makeProjectDto)
+            .collect(Collectors.toList()))
+        .map(projectDtos -> makeProjectPage(projectDtos, limit));
+  }
+
+  private ServerResponse getTaskStates(ServerRequest request) {
+
+    Long projectId = parseId(request.pathVariable("project_id"));
+
+    Mono<ServerResponse> response = reactiveReadRepository.findLastChangeSeqByProjectId(projectId)
+        .switchIfEmpty(Mono.error(() -> makeProjectNotFoundException(projectId)))
+        .map(lastChangeSeq -> ChangeVersionHelper.makeBoardEtag(projectId, "json", lastChangeSeq))
+        .flatMap(etag -> request.checkNotModified(etag)
+            .map(Mono::just)
+            .orElseGet(() -> reactiveReadRepository.findBoardByProjectId(projectId)
+                .switchIfEmpty(Mono.error(() -> makeProjectNotFoundException(projectId)))
+                .map(taskStates -> ServerResponse.ok()
+                    .eTag(etag)
+                    .body(taskStateDtoFactory.makeTaskStateDtoList(taskStates)))));
+
+    return ServerResponse.async(response);
+  }
+
+  private static NotFoundException makeProjectNotFoundException(Long projectId) {
+    return new NotFoundException(String.format("Project with \"%s\" doesn't exist", projectId));
+  }
+
+  private static ProjectPageDto makeProjectPage(List<ProjectDto> projects, int limit) {
+
+    String nextCursor = null;
+    if (projects.size() > limit) {
+      projects = projects.subList(0, limit);
+      nextCursor = ProjectCursor.of(projects.get(limit - 1)).encode();
+    }
+
+    return ProjectPageDto.builder()
+        .projects(projects)
+        .nextCursor(nextCursor)
+        .build();
+  }
+
+  private static int parseLimit(String limit) {
+    try {
+      return Integer.parseInt(limit);
+    } catch (NumberFormatException ex) {
+      throw new BadRequestException(String.format("Limit \"%s\" is invalid", limit));
+    }
+  }
+
+  private static Long parseId(String id) {
+    try {
+      return Long.valueOf(id);
+    } catch (NumberFormatException ex) {
+      throw new BadRequestException(String.format("Id \"%s\" is invalid", id));
+    }
+  }
+}
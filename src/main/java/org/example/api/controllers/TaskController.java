@@ -0,0 +1,375 @@
+package org.example.api.controllers;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.stream.Collectors;
+import javax.persistence.EntityManager;
+import javax.transaction.Transactional;
+import lombok.AccessLevel;
+import lombok.RequiredArgsConstructor;
+import lombok.experimental.FieldDefaults;
+import org.example.api.controllers.helpers.BoardEventPublisher;
+import org.example.api.controllers.helpers.ChangeLogHelper;
+import org.example.api.controllers.helpers.ChangeLogHelper.Change;
+import org.example.api.controllers.helpers.ControllerHelper;
+import org.example.api.dto.AckDto;
+import org.example.api.dto.ArchivedTaskDto;
+import org.example.api.dto.ArchivedTaskPageDto;
+import org.example.api.dto.BoardEventDto;
+import org.example.api.dto.NewTaskDto;
+import org.example.api.dto.TaskDto;
+import org.example.api.dto.TaskSearchPageDto;
+import org.example.api.dto.TaskSearchResultDto;
+import org.example.api.exceptions.BadRequestException;
+import org.example.api.exceptions.NotFoundException;
+import org.example.api.factories.TaskDtoFactory;
+import org.example.store.datasource.ReadOnlyTransactional;
+import org.example.store.entities.ChangeLogEntity.EntityType;
+import org.example.store.entities.TaskEntity;
+import org.example.store.entities.TaskStateEntity;
+import org.example.store.repositories.TaskRepository;
+import org.example.store.repositories.TaskRepository.TaskSearchResult;
+import org.springframework.web.bind.annotation.DeleteMapping;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PatchMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+@RequiredArgsConstructor
+@FieldDefaults(level = AccessLevel.PRIVATE, makeFinal = true)
+@Transactional
+@RestController
+public class TaskController {
+
+  TaskRepository taskRepository;
+
+  TaskDtoFactory taskDtoFactory;
+
+  ControllerHelper controllerHelper;
+
+  EntityManager entityManager;
+
+  BoardEventPublisher boardEventPublisher;
+
+  ChangeLogHelper changeLogHelper;
+
+  public static final int MAX_BULK_TASKS = 10_000;
+
+  /**
+   * Must stay a multiple of hibernate.jdbc.batch_size so every flush sends full batches.
+   */
+  public static final int BULK_FLUSH_SIZE = 500;
+
+  public static final String CREATE_TASK = "/api/task-states/{task_state_id}/tasks";
+  public static final String CREATE_TASKS = "/api/task-states/{task_state_id}/tasks/bulk";
+  public static final String UPDATE_TASK = "/api/tasks/{task_id}";
+  public static final String DELETE_TASK = "/api/tasks/{task_id}";
+  public static final String SEARCH_TASKS = "/api/tasks/search";
+  public static final String SEARCH_PROJECT_TASKS = "/api/projects/{project_id}/tasks/search";
+  public static final String GET_ARCHIVED_TASKS = "/api/projects/{project_id}/archived-tasks";
+
+  public static final int MAX_ARCHIVED_TASK_PAGE_LIMIT = 500;
+
+  public static final int MAX_SEARCH_LIMIT = 100;
+
+  /**
+   * Only this many matches are ranked and can be paged through, so a broad query costs no more
+   * than a narrow one.
+   */
+  public static final int MAX_SEARCH_MATCHES = 1_000;
+
+  @PostMapping(CREATE_TASK)
+  public TaskDto createTask(
+      @PathVariable(name = "task_state_id") Long taskStateId,
+      @RequestParam(name = "task_name") String taskName,
+      @RequestParam(name = "task_description", required = false) Optional<String> optionalTaskDescription) {
+
+    if (taskName.trim().isEmpty()) {
+      throw new BadRequestException("Task name can't be empty.");
+    }
+
+    TaskStateEntity taskState = controllerHelper.getTaskStateOrThrowException(taskStateId);
+
+    TaskEntity task = taskRepository.saveAndFlush(
+        TaskEntity.builder()
+            .name(taskName)
+            .description(optionalTaskDescription.orElse(""))
+            .taskState(taskState)
+            .build()
+    );
+
+    TaskDto taskDto = taskDtoFactory.makeTaskDto(task);
+
+    publishTaskEvent(BoardEventDto.Type.TASK_CREATED, taskState, taskDto);
+
+    return taskDto;
+  }
+
+  @PostMapping(CREATE_TASKS)
+  public List<TaskDto> createTasks(
+      @PathVariable(name = "task_state_id") Long taskStateId,
+      @RequestBody List<NewTaskDto> newTasks) {
+
+    if (newTasks.isEmpty() || newTasks.size() > MAX_BULK_TASKS) {
+      throw new BadRequestException(
+          String.format("From 1 to %d tasks can be created at once.", MAX_BULK_TASKS));
+    }
+
+    for (NewTaskDto newTask : newTasks) {
+      if (newTask.getName() == null || newTask.getName().trim().isEmpty()) {
+        throw new BadRequestException("Task name can't be empty.");
+      }
+    }
+
+    TaskStateEntity taskState = controllerHelper.getTaskStateOrThrowException(taskStateId);
+
+    List<TaskDto> createdTasks = new ArrayList<>(newTasks.size());
+
+    for (int i = 0; i < newTasks.size(); i++) {
+
+      NewTaskDto newTask = newTasks.get(i);
+
+      TaskEntity task = taskRepository.save(
+          TaskEntity.builder()
+              .name(newTask.getName())
+              .description(Optional.ofNullable(newTask.getDescription()).orElse(""))
+              .taskState(taskState)
+              .build()
+      );
+
+      createdTasks.add(taskDtoFactory.makeTaskDto(task));
+
+      if ((i + 1) % BULK_FLUSH_SIZE == 0) {
+        taskRepository.flush();
+        entityManager.clear();
+      }
+    }
+
+    taskRepository.flush();
+
+    Long projectId = taskState.getProject().getId();
+
+    Long seq = changeLogHelper.record(
+        projectId,
+        createdTasks
+            .stream()
+            .map(task -> Change.upserted(EntityType.TASK, task.getId()))
+            .collect(Collectors.toList())
+    );
+
+    boardEventPublisher.publishBoardChangedAfterCommit(projectId, seq);
+
+    return createdTasks;
+  }
+
+  @PatchMapping(UPDATE_TASK)
+  public TaskDto updateTask(
+      @PathVariable(name = "task_id") Long taskId,
+      @RequestParam(name = "task_name", required = false) Optional<String> optionalTaskName,
+      @RequestParam(name = "task_description", required = false) Optional<String> optionalTaskDescription) {
+
+    optionalTaskName
+        .filter(taskName -> taskName.trim().isEmpty())
+        .ifPresent(taskName -> {
+          throw new BadRequestException("Task name can't be empty.");
+        });
+
+    TaskEntity task = getTaskOrThrowException(taskId);
+
+    optionalTaskName.ifPresent(task::setName);
+    optionalTaskDescription.ifPresent(task::setDescription);
+
+    task = taskRepository.saveAndFlush(task);
+
+    TaskDto taskDto = taskDtoFactory.makeTaskDto(task);
+
+    publishTaskEvent(BoardEventDto.Type.TASK_UPDATED, task.getTaskState(), taskDto);
+
+    return taskDto;
+  }
+
+  @DeleteMapping(DELETE_TASK)
+  public AckDto deleteTask(@PathVariable(name = "task_id") Long taskId) {
+
+    TaskEntity task = getTaskOrThrowException(taskId);
+
+    taskRepository.delete(task);
+
+    Long projectId = task.getTaskState().getProject().getId();
+
+    boardEventPublisher.publishAfterCommit(BoardEventDto.builder()
+        .seq(changeLogHelper.record(projectId, Change.deleted(EntityType.TASK, task.getId())))
+        .type(BoardEventDto.Type.TASK_DELETED)
+        .projectId(projectId)
+        .taskStateId(task.getTaskState().getId())
+        .taskId(task.getId())
+        .build());
+
+    return AckDto.makeDefault(true);
+  }
+
+  @ReadOnlyTransactional
+  @GetMapping(SEARCH_TASKS)
+  public TaskSearchPageDto searchTasks(
+      @RequestParam(name = "query") String query,
+      @RequestParam(name = "offset", defaultValue = "0") Integer offset,
+      @RequestParam(name = "limit", defaultValue = "20") Integer limit) {
+
+    validateSearch(query, offset, limit);
+
+    return makeSearchPage(
+        taskRepository.search(query, MAX_SEARCH_MATCHES, offset, limit + 1),
+        offset,
+        limit
+    );
+  }
+
+  @ReadOnlyTransactional
+  @GetMapping(SEARCH_PROJECT_TASKS)
+  public TaskSearchPageDto searchProjectTasks(
+      @PathVariable(name = "project_id") Long projectId,
+      @RequestParam(name = "query") String query,
+      @RequestParam(name = "offset", defaultValue = "0") Integer offset,
+      @RequestParam(name = "limit", defaultValue = "20") Integer limit) {
+
+    validateSearch(query, offset, limit);
+
+    controllerHelper.getProjectOrThrowException(projectId);
+
+    return makeSearchPage(
+        taskRepository.searchInProject(projectId, query, MAX_SEARCH_MATCHES, offset, limit + 1),
+        offset,
+        limit
+    );
+  }
+
+  @ReadOnlyTransactional
+  @GetMapping(GET_ARCHIVED_TASKS)
+  public ArchivedTaskPageDto getArchivedTasks(
+      @PathVariable(name = "project_id") Long projectId,
+      @RequestParam(name = "cursor", required = false) Optional<String> optionalCursor,
+      @RequestParam(name = "limit", defaultValue = "50") Integer limit) {
+
+    if (limit < 1 || limit > MAX_ARCHIVED_TASK_PAGE_LIMIT) {
+      throw new BadRequestException(
+          String.format("Limit must be between 1 and %d", MAX_ARCHIVED_TASK_PAGE_LIMIT));
+    }
+
+    Long beforeId = optionalCursor
+        .map(TaskController::parseArchivedTaskCursor)
+        .orElse(Long.MAX_VALUE);
+
+    controllerHelper.checkProjectExistsOrThrowException(projectId);
+
+    List<ArchivedTaskDto> tasks = taskRepository
+        .findArchivedByProjectIdBefore(projectId, beforeId, limit + 1)
+        .stream()
+        .map(task -> ArchivedTaskDto.builder()
+            .id(task.getId())
+            .name(task.getName())
+            .description(task.getDescription())
+            .createdAt(task.getCreatedAt())
+            .archivedAt(task.getArchivedAt())
+            .taskStateId(task.getTaskStateId())
+            .taskStateName(task.getTaskStateName())
+            .build())
+        .collect(Collectors.toList());
+
+    String nextCursor = null;
+    if (tasks.size() > limit) {
+      tasks = tasks.subList(0, limit);
+      nextCursor = tasks.get(limit - 1).getId().toString();
+    }
+
+    return ArchivedTaskPageDto.builder()
+        .tasks(tasks)
+        .nextCursor(nextCursor)
+        .build();
+  }
+
+  private static Long parseArchivedTaskCursor(String cursor) {
+    try {
+      return Long.valueOf(cursor);
+    } catch (NumberFormatException ex) {
+      throw new BadRequestException(String.format("Cursor \"%s\" is invalid", cursor));
+    }
+  }
+
+  private static void validateSearch(String query, Integer offset, Integer limit) {
+
+    if (query.trim().isEmpty()) {
+      throw new BadRequestException("Search query can't be empty.");
+    }
+
+    if (limit < 1 || limit > MAX_SEARCH_LIMIT) {
+      throw new BadRequestException(
+          String.format("Limit must be between 1 and %d", MAX_SEARCH_LIMIT));
+    }
+
+    if (offset < 0 || offset + limit > MAX_SEARCH_MATCHES) {
+      throw new BadRequestException(
+          String.format("Only the first %d matches can be paged through.", MAX_SEARCH_MATCHES));
+    }
+  }
+
+  private static TaskSearchPageDto makeSearchPage(
+      List<TaskSearchResult> results,
+      int offset,
+      int limit) {
+
+    boolean hasMore = results.size() > limit;
+
+    List<TaskSearchResultDto> tasks = results
+        .stream()
+        .limit(limit)
+        .map(result -> TaskSearchResultDto.builder()
+            .projectId(result.getProjectId())
+            .taskStateId(result.getTaskStateId())
+            .task(TaskDto.builder()
+                .id(result.getId())
+                .name(result.getName())
+                .description(result.getDescription())
+                .createdAt(result.getCreatedAt())
+                .build())
+            .rank(result.getRank())
+            .build())
+        .collect(Collectors.toList());
+
+    return TaskSearchPageDto.builder()
+        .tasks(tasks)
+        .nextOffset(hasMore ? offset + limit : null)
+        .build();
+  }
+
+  private void publishTaskEvent(BoardEventDto.Type type, TaskStateEntity taskState, TaskDto task) {
+
+    Long projectId = taskState.getProject().getId();
+
+    boardEventPublisher.publishAfterCommit(BoardEventDto.builder()
+        .seq(changeLogHelper.record(projectId, Change.upserted(EntityType.TASK, task.getId())))
+        .type(type)
+        .projectId(projectId)
+        .taskStateId(taskState.getId())
+        .taskId(task.getId())
+        .task(task)
+        .build());
+  }
+
+  private TaskEntity getTaskOrThrowException(Long taskId) {
+
+    return taskRepository
+        .findLiveById(taskId)
+        .orElseThrow(() ->
+            new NotFoundException(
+                String.format(
+                    "Task with \"%s\" id doesn't exist.",
+                    taskId
+                )
+            )
+        );
+  }
+}
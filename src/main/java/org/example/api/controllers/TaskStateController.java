@@ -1,28 +1,56 @@
 package org.example.api.controllers;
 
+import java.util.ArrayList;
+import java.util.Collections;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
+import java.util.TreeSet;
+import java.util.function.Function;
 import java.util.stream.Collectors;
 import javax.transaction.Transactional;
 import lombok.AccessLevel;
 import lombok.RequiredArgsConstructor;
 import lombok.experimental.FieldDefaults;
+import org.example.api.controllers.helpers.BoardEventPublisher;
+import org.example.api.controllers.helpers.ChangeVersionHelper;
+import org.example.api.controllers.helpers.ChangeLogHelper;
+import org.example.api.controllers.helpers.ChangeLogHelper.Change;
 import org.example.api.controllers.helpers.ControllerHelper;
+import org.example.api.controllers.helpers.IdempotencyHelper;
+import org.example.api.controllers.helpers.OptimisticRetryHelper;
+import org.example.api.controllers.helpers.ProjectLockHelper;
+import org.example.api.controllers.helpers.ProjectPurger;
+import org.example.api.controllers.helpers.ReadYourWritesHelper;
+import org.example.api.controllers.helpers.TaskStateRankHelper;
 import org.example.api.dto.AckDto;
+import org.example.api.dto.BoardEventDto;
+import org.example.api.dto.DeletionStatusDto;
 import org.example.api.dto.TaskStateDto;
+import org.example.api.dto.TaskStateOperationDto;
+import org.example.api.encoding.BinaryEncodingConfig;
+import org.example.api.encoding.SparseFieldsConfig;
 import org.example.api.exceptions.BadRequestException;
 import org.example.api.exceptions.NotFoundException;
 import org.example.api.factories.TaskStateDtoFactory;
+import org.example.store.datasource.ReadOnlyTransactional;
+import org.example.store.entities.ChangeLogEntity.EntityType;
 import org.example.store.entities.ProjectEntity;
 import org.example.store.entities.TaskStateEntity;
 import org.example.store.repositories.TaskStateRepository;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.converter.json.MappingJacksonValue;
 import org.springframework.web.bind.annotation.DeleteMapping;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PatchMapping;
 import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestHeader;
 import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.context.request.WebRequest;
 
 @RequiredArgsConstructor
 @FieldDefaults(level = AccessLevel.PRIVATE, makeFinal = true)
@@ -36,70 +64,131 @@ public class TaskStateController {
 
   ControllerHelper controllerHelper;
 
+  TaskStateRankHelper taskStateRankHelper;
+
+  ProjectLockHelper projectLockHelper;
+
+  OptimisticRetryHelper optimisticRetryHelper;
+
+  ChangeVersionHelper changeVersionHelper;
+
+  ChangeLogHelper changeLogHelper;
+
+  BoardEventPublisher boardEventPublisher;
+
+  ReadYourWritesHelper readYourWritesHelper;
+
+  ProjectPurger projectPurger;
+
+  IdempotencyHelper idempotencyHelper;
+
   public static final String GET_TASK_STATES = "/api/projects/{project_id}/task-states";
   public static final String CREATE_TASK_STATE = "/api/projects/{project_id}/task-states";
   public static final String UPDATE_TASK_STATE = "/api/task-states/{task_state_id}";
   public static final String CHANGE_TASK_STATE_POSITION = "/api/task-states/{task_state_id}/position/change";
   public static final String DELETE_TASK_STATE = "/api/task-states/{task_state_id}";
+  public static final String GET_TASK_STATE_DELETION = "/api/task-states/{task_state_id}/deletion";
+  public static final String APPLY_TASK_STATE_OPERATIONS = "/api/projects/{project_id}/task-states/operations";
+
+  public static final int MAX_TASK_STATE_OPERATIONS = 500;
 
+  private static final Set<String> TASK_STATE_FIELDS = Collections.unmodifiableSet(new TreeSet<>(
+      List.of("id", "name", "left_task_state_id", "right_task_state_id", "created_at", "tasks")));
+
+  @ReadOnlyTransactional
   @GetMapping(GET_TASK_STATES)
-  public List<TaskStateDto> getTaskStates(@PathVariable(name = "project_id") Long projectId) {
+  public MappingJacksonValue getTaskStates(
+      @PathVariable(name = "project_id") Long projectId,
+      @RequestParam(value = "include_tasks", defaultValue = "true") Boolean includeTasks,
+      @RequestParam(value = "fields", required = false) Optional<String> optionalFields,
+      WebRequest webRequest) {
 
-    ProjectEntity project = controllerHelper.getProjectOrThrowException(projectId);
+    Set<String> fields = optionalFields
+        .map(TaskStateController::parseTaskStateFields)
+        .orElse(TASK_STATE_FIELDS);
 
-    return project
-        .getTaskStates()
-        .stream()
-        .map(taskStateDtoFactory::makeTaskStateDto)
-        .collect(Collectors.toList());
+    if (!includeTasks) {
+      fields = new TreeSet<>(fields);
+      fields.remove("tasks");
+    }
+
+    String representation = BinaryEncodingConfig.getRepresentation(
+        webRequest.getHeader(HttpHeaders.ACCEPT));
+
+    if (!fields.equals(TASK_STATE_FIELDS)) {
+      representation += "." + String.join("+", fields);
+    }
+
+    readYourWritesHelper.readBoardFromPrimaryIfRecentlyChanged(projectId);
+
+    Optional<String> optionalEtag = changeVersionHelper.findBoardEtag(projectId, representation);
+
+    if (optionalEtag.isPresent() && webRequest.checkNotModified(optionalEtag.get())) {
+      return null;
+    }
+
+    List<TaskStateDto> taskStates;
+
+    if (fields.contains("tasks")) {
+
+      controllerHelper.getProjectOrThrowException(projectId);
+
+      taskStates = taskStateDtoFactory.makeTaskStateDtoList(
+          taskStateRepository.findBoardByProjectId(projectId));
+    } else {
+
+      controllerHelper.checkProjectExistsOrThrowException(projectId);
+
+      taskStates = taskStateDtoFactory.makeTaskStateSummaryDtoList(
+          taskStateRepository.findSummariesByProjectId(projectId));
+    }
+
+    return SparseFieldsConfig.withTaskStateFields(taskStates, fields);
   }
 
+  @Transactional(Transactional.TxType.NOT_SUPPORTED)
   @PostMapping(CREATE_TASK_STATE)
   public TaskStateDto createTaskSate(
       @PathVariable(name = "project_id") Long projectId,
-      @RequestParam(name = "task_state_name") String taskStateName) {
+      @RequestParam(name = "task_state_name") String taskStateName,
+      @RequestHeader(value = IdempotencyHelper.IDEMPOTENCY_KEY_HEADER, required = false)
+          Optional<String> optionalIdempotencyKey) {
 
     if (taskStateName.trim().isEmpty()) {
       throw new BadRequestException("Task state name can't be empty.");
     }
 
-    ProjectEntity project = controllerHelper.getProjectOrThrowException(projectId);
+    return idempotencyHelper.execute(
+        "POST " + CREATE_TASK_STATE,
+        optionalIdempotencyKey,
+        projectId + "/" + taskStateName,
+        TaskStateDto.class,
+        () -> appendTaskState(projectId, taskStateName)
+    );
+  }
 
-    Optional<TaskStateEntity> optionalAnotherTaskState = Optional.empty();
+  private TaskStateDto appendTaskState(Long projectId, String taskStateName) {
 
-    for (TaskStateEntity taskState : project.getTaskStates()) {
+    ProjectEntity project = controllerHelper.getProjectOrThrowException(projectId);
 
-      if (taskState.getName().equalsIgnoreCase(taskStateName)) {
-        throw new BadRequestException(
-            String.format("Task state \"%s\" already exists.", taskStateName));
-      }
+    projectLockHelper.lockUntilCompletion(project);
 
-      if (!taskState.getRightTaskState().isPresent()) {
-        optionalAnotherTaskState = Optional.of(taskState);
-        break;
-      }
-    }
+    TaskStateEntity taskState = TaskStateEntity.builder()
+        .name(taskStateName)
+        .rank(taskStateRankHelper.nextRank(projectId))
+        .project(project)
+        .build();
 
-    TaskStateEntity taskState = taskStateRepository.saveAndFlush(
-        TaskStateEntity.builder()
-            .name(taskStateName)
-            .project(project)
-            .build()
+    final TaskStateEntity savedTaskState = controllerHelper.saveUniqueOrThrowException(
+        () -> taskStateRepository.saveAndFlush(taskState),
+        String.format("Task state \"%s\" already exists.", taskStateName)
     );
 
-    optionalAnotherTaskState
-        .ifPresent(anotherTaskState -> {
+    TaskStateDto taskStateDto = makeTaskStateDto(savedTaskState);
 
-          taskState.setLeftTaskState(anotherTaskState);
+    publishTaskStateEvent(BoardEventDto.Type.TASK_STATE_CREATED, projectId, taskStateDto);
 
-          anotherTaskState.setRightTaskState(taskState);
-
-          taskStateRepository.saveAndFlush(anotherTaskState);
-        });
-
-    final TaskStateEntity savedTaskState = taskStateRepository.saveAndFlush(taskState);
-
-    return taskStateDtoFactory.makeTaskStateDto(savedTaskState);
+    return taskStateDto;
   }
 
   @PatchMapping(UPDATE_TASK_STATE)
@@ -111,41 +200,50 @@ public class TaskStateController {
       throw new BadRequestException("Task state name can't be empty.");
     }
 
-    TaskStateEntity taskState = getTaskStateOrThrowException(taskStateId);
-
-    taskStateRepository
-        .findTaskStateEntityByProjectIdAndNameContainsIgnoreCase(
-            taskState.getProject().getId(),
-            taskStateName
-        )
-        .filter(anotherTaskState -> !anotherTaskState.getId().equals(taskStateId))
-        .ifPresent(anotherTaskState -> {
-          throw new BadRequestException(
-              String.format("Task state \"%s\" already exists.", taskStateName));
-        });
+    TaskStateEntity taskState = controllerHelper.getTaskStateOrThrowException(taskStateId);
 
     taskState.setName(taskStateName);
 
-    taskState = taskStateRepository.saveAndFlush(taskState);
+    TaskStateEntity savedTaskState = controllerHelper.saveUniqueOrThrowException(
+        () -> taskStateRepository.saveAndFlush(taskState),
+        String.format("Task state \"%s\" already exists.", taskStateName)
+    );
+
+    TaskStateDto taskStateDto = makeTaskStateDto(savedTaskState);
 
-    return taskStateDtoFactory.makeTaskStateDto(taskState);
+    publishTaskStateEvent(
+        BoardEventDto.Type.TASK_STATE_RENAMED,
+        savedTaskState.getProject().getId(),
+        taskStateDto
+    );
+
+    return taskStateDto;
   }
 
+  @Transactional(Transactional.TxType.NOT_SUPPORTED)
   @PatchMapping(CHANGE_TASK_STATE_POSITION)
   public TaskStateDto changeTaskStatePosition(
       @PathVariable(name = "task_state_id") Long taskStateId,
       @RequestParam(name = "left_task_state_id", required = false) Optional<Long> optionalLeftTaskStateId) {
 
-    TaskStateEntity changeTaskState = getTaskStateOrThrowException(taskStateId);
+    return optimisticRetryHelper.executeWithRetry(() ->
+        moveTaskState(taskStateId, optionalLeftTaskStateId));
+  }
+
+  private TaskStateDto moveTaskState(Long taskStateId, Optional<Long> optionalLeftTaskStateId) {
+
+    TaskStateEntity changeTaskState = controllerHelper.getTaskStateOrThrowException(taskStateId);
 
     ProjectEntity project = changeTaskState.getProject();
 
-    Optional<Long> optionalOldLeftTaskStateId = changeTaskState
-        .getLeftTaskState()
+    projectLockHelper.lockUntilCompletion(project);
+
+    Optional<Long> optionalOldLeftTaskStateId = taskStateRankHelper
+        .findLeftTaskState(changeTaskState)
         .map(TaskStateEntity::getId);
 
     if (optionalOldLeftTaskStateId.equals(optionalLeftTaskStateId)) {
-      return taskStateDtoFactory.makeTaskStateDto(changeTaskState);
+      return makeTaskStateDto(changeTaskState);
     }
 
     Optional<TaskStateEntity> optionalNewLeftTaskState = optionalLeftTaskStateId
@@ -155,7 +253,8 @@ public class TaskStateController {
             throw new BadRequestException("Left task state id equals changed task state.");
           }
 
-          TaskStateEntity leftTaskStateEntity = getTaskStateOrThrowException(leftTaskStateId);
+          TaskStateEntity leftTaskStateEntity = controllerHelper
+              .getTaskStateOrThrowException(leftTaskStateId);
 
           if (!project.getId().equals(leftTaskStateEntity.getProject().getId())) {
             throw new BadRequestException(
@@ -165,101 +264,231 @@ public class TaskStateController {
           return leftTaskStateEntity;
         });
 
-    Optional<TaskStateEntity> optionalNewRightTaskState;
-    if (!optionalNewLeftTaskState.isPresent()) {
+    Optional<TaskStateEntity> optionalNewRightTaskState = optionalNewLeftTaskState.isPresent()
+        ? taskStateRankHelper.findRightTaskState(optionalNewLeftTaskState.get())
+        : taskStateRepository.findFirstByProjectIdOrderByRankAsc(project.getId());
 
-      optionalNewRightTaskState = project
-          .getTaskStates()
-          .stream()
-          .filter(anotherTaskState -> !anotherTaskState.getLeftTaskState().isPresent())
-          .findAny();
-    } else {
+    changeTaskState.setRank(taskStateRankHelper.rankBetween(
+        project.getId(),
+        optionalNewLeftTaskState,
+        optionalNewRightTaskState
+    ));
 
-      optionalNewRightTaskState = optionalNewLeftTaskState
-          .get()
-          .getRightTaskState();
-    }
+    changeTaskState = taskStateRepository.saveAndFlush(changeTaskState);
 
-    replaceOldTaskStatePosition(changeTaskState);
+    TaskStateDto taskStateDto = taskStateDtoFactory.makeTaskStateDto(
+        changeTaskState,
+        optionalNewLeftTaskState.map(TaskStateEntity::getId).orElse(null),
+        optionalNewRightTaskState.map(TaskStateEntity::getId).orElse(null)
+    );
 
-    if (optionalNewLeftTaskState.isPresent()) {
+    publishTaskStateEvent(BoardEventDto.Type.TASK_STATE_MOVED, project.getId(), taskStateDto);
 
-      TaskStateEntity newLeftTaskState = optionalNewLeftTaskState.get();
+    return taskStateDto;
+  }
 
-      newLeftTaskState.setRightTaskState(changeTaskState);
+  @DeleteMapping(DELETE_TASK_STATE)
+  public AckDto deleteTaskState(@PathVariable(name = "task_state_id") Long taskStateId) {
 
-      changeTaskState.setLeftTaskState(newLeftTaskState);
-    } else {
-      changeTaskState.setLeftTaskState(null);
+    TaskStateEntity changeTaskState = controllerHelper.getTaskStateOrThrowException(taskStateId);
+
+    projectPurger.markDeleted(changeTaskState);
+
+    Long projectId = changeTaskState.getProject().getId();
+
+    boardEventPublisher.publishAfterCommit(BoardEventDto.builder()
+        .seq(changeLogHelper.record(projectId, Change.deleted(EntityType.TASK_STATE, taskStateId)))
+        .type(BoardEventDto.Type.TASK_STATE_DELETED)
+        .projectId(projectId)
+        .taskStateId(taskStateId)
+        .build());
+
+    return AckDto.builder().answer(true).build();
+  }
+
+  @GetMapping(GET_TASK_STATE_DELETION)
+  public DeletionStatusDto getTaskStateDeletion(
+      @PathVariable(name = "task_state_id") Long taskStateId) {
+    return projectPurger.getTaskStateDeletionStatus(taskStateId);
+  }
+
+  @Transactional(Transactional.TxType.NOT_SUPPORTED)
+  @PostMapping(APPLY_TASK_STATE_OPERATIONS)
+  public List<TaskStateDto> applyTaskStateOperations(
+      @PathVariable(name = "project_id") Long projectId,
+      @RequestBody List<TaskStateOperationDto> operations) {
+
+    if (operations.isEmpty() || operations.size() > MAX_TASK_STATE_OPERATIONS) {
+      throw new BadRequestException(String.format(
+          "From 1 to %d operations can be applied at once.",
+          MAX_TASK_STATE_OPERATIONS
+      ));
     }
 
-    if (optionalNewRightTaskState.isPresent()) {
+    return optimisticRetryHelper.executeWithRetry(() -> applyOperations(projectId, operations));
+  }
+
+  private List<TaskStateDto> applyOperations(
+      Long projectId,
+      List<TaskStateOperationDto> operations) {
 
-      TaskStateEntity newRightTaskState = optionalNewRightTaskState.get();
+    ProjectEntity project = controllerHelper.getProjectOrThrowException(projectId);
 
-      newRightTaskState.setLeftTaskState(changeTaskState);
+    projectLockHelper.lockUntilCompletion(project);
 
-      changeTaskState.setRightTaskState(newRightTaskState);
-    } else {
-      changeTaskState.setRightTaskState(null);
+    List<TaskStateEntity> board = new ArrayList<>(
+        taskStateRepository.findAllByProjectIdOrderByRankAsc(projectId));
+
+    Map<Long, TaskStateEntity> taskStatesById = board
+        .stream()
+        .collect(Collectors.toMap(TaskStateEntity::getId, Function.identity()));
+
+    List<Change> changes = new ArrayList<>(operations.size());
+
+    for (TaskStateOperationDto operation : operations) {
+
+      if (operation.getType() == null) {
+        throw new BadRequestException("Operation type can't be empty.");
+      }
+
+      TaskStateEntity taskState = getTaskStateFromBoard(taskStatesById, operation.getTaskStateId());
+
+      switch (operation.getType()) {
+
+        case RENAME:
+
+          String taskStateName = operation.getTaskStateName();
+
+          if (taskStateName == null || taskStateName.trim().isEmpty()) {
+            throw new BadRequestException("Task state name can't be empty.");
+          }
+
+          for (TaskStateEntity anotherTaskState : board) {
+            if (anotherTaskState != taskState
+                && anotherTaskState.getName().equalsIgnoreCase(taskStateName)) {
+              throw new BadRequestException(
+                  String.format("Task state \"%s\" already exists.", taskStateName));
+            }
+          }
+
+          taskState.setName(taskStateName);
+
+          flushInOperationOrder(String.format("Task state \"%s\" already exists.", taskStateName));
+
+          changes.add(Change.upserted(EntityType.TASK_STATE, taskState.getId()));
+          break;
+
+        case MOVE:
+
+          TaskStateEntity leftTaskState = operation.getLeftTaskStateId() == null
+              ? null
+              : getTaskStateFromBoard(taskStatesById, operation.getLeftTaskStateId());
+
+          if (leftTaskState == taskState) {
+            throw new BadRequestException("Left task state id equals changed task state.");
+          }
+
+          TaskStateRankHelper.moveWithinBoard(board, taskState, leftTaskState);
+
+          changes.add(Change.upserted(EntityType.TASK_STATE, taskState.getId()));
+          break;
+
+        case DELETE:
+
+          board.remove(taskState);
+          taskStatesById.remove(taskState.getId());
+
+          projectPurger.markDeleted(taskState);
+
+          flushInOperationOrder("Task state names must be unique within the project.");
+
+          changes.add(Change.deleted(EntityType.TASK_STATE, taskState.getId()));
+          break;
+      }
     }
 
-    changeTaskState = taskStateRepository.saveAndFlush(changeTaskState);
+    taskStateRepository.flush();
 
-    optionalNewLeftTaskState
-        .ifPresent(taskStateRepository::saveAndFlush);
+    boardEventPublisher.publishBoardChangedAfterCommit(
+        projectId,
+        changes.isEmpty() ? null : changeLogHelper.record(projectId, changes));
 
-    optionalNewRightTaskState
-        .ifPresent(taskStateRepository::saveAndFlush);
+    return taskStateDtoFactory.makeTaskStateDtoList(
+        taskStateRepository.findBoardByProjectId(projectId));
+  }
 
-    return taskStateDtoFactory.makeTaskStateDto(changeTaskState);
+  /**
+   * The live name index is checked row by row and a single flush orders updates by id, so renames
+   * and deletes are flushed as they come. Renaming through a free name, or reusing the name of a
+   * task state deleted earlier in the batch, then succeeds as it would one request at a time.
+   */
+  private void flushInOperationOrder(String duplicateMessage) {
+    controllerHelper.saveUniqueOrThrowException(
+        () -> {
+          taskStateRepository.flush();
+          return null;
+        },
+        duplicateMessage
+    );
   }
 
-  @DeleteMapping(DELETE_TASK_STATE)
-  public AckDto deleteTaskState(@PathVariable(name = "task_state_id") Long taskStateId) {
+  private static TaskStateEntity getTaskStateFromBoard(
+      Map<Long, TaskStateEntity> taskStatesById,
+      Long taskStateId) {
 
-    TaskStateEntity changeTaskState = getTaskStateOrThrowException(taskStateId);
+    TaskStateEntity taskState = taskStatesById.get(taskStateId);
 
-    replaceOldTaskStatePosition(changeTaskState);
+    if (taskState == null) {
+      throw new NotFoundException(
+          String.format("Task state with \"%s\" id doesn't exist in the project.", taskStateId));
+    }
 
-    taskStateRepository.delete(changeTaskState);
+    return taskState;
+  }
 
-    return AckDto.builder().answer(true).build();
+  private void publishTaskStateEvent(BoardEventDto.Type type, Long projectId, TaskStateDto taskState) {
+    boardEventPublisher.publishAfterCommit(BoardEventDto.builder()
+        .seq(changeLogHelper.record(
+            projectId,
+            Change.upserted(EntityType.TASK_STATE, taskState.getId())))
+        .type(type)
+        .projectId(projectId)
+        .taskStateId(taskState.getId())
+        .taskStateName(taskState.getName())
+        .leftTaskStateId(taskState.getLeftTaskStateId())
+        .rightTaskStateId(taskState.getRightTaskStateId())
+        .build());
   }
 
-  private void replaceOldTaskStatePosition(TaskStateEntity changeTaskState) {
+  private TaskStateDto makeTaskStateDto(TaskStateEntity taskState) {
 
-    Optional<TaskStateEntity> optionalOldLeftTaskState = changeTaskState.getLeftTaskState();
-    Optional<TaskStateEntity> optionalOldRightTaskState = changeTaskState.getRightTaskState();
+    return taskStateDtoFactory.makeTaskStateDto(
+        taskState,
+        taskStateRankHelper.findLeftTaskState(taskState).map(TaskStateEntity::getId).orElse(null),
+        taskStateRankHelper.findRightTaskState(taskState).map(TaskStateEntity::getId).orElse(null)
+    );
+  }
 
-    optionalOldLeftTaskState
-        .ifPresent(it -> {
+  private static Set<String> parseTaskStateFields(String fields) {
 
-          it.setRightTaskState(optionalOldRightTaskState.orElse(null));
+    Set<String> parsedFields = new TreeSet<>();
+    parsedFields.add("id");
 
-          taskStateRepository.saveAndFlush(it);
-        });
+    for (String field : fields.split(",")) {
 
-    optionalOldRightTaskState
-        .ifPresent(it -> {
+      String trimmedField = field.trim();
 
-          it.setLeftTaskState(optionalOldLeftTaskState.orElse(null));
+      if (trimmedField.isEmpty()) {
+        continue;
+      }
 
-          taskStateRepository.saveAndFlush(it);
-        });
-  }
+      if (!TASK_STATE_FIELDS.contains(trimmedField)) {
+        throw new BadRequestException(String.format("Field \"%s\" is unknown", trimmedField));
+      }
+
+      parsedFields.add(trimmedField);
+    }
 
-  private TaskStateEntity getTaskStateOrThrowException(Long taskStateId) {
-
-    return taskStateRepository
-        .findById(taskStateId)
-        .orElseThrow(() ->
-            new NotFoundException(
-                String.format(
-                    "Task state with \"%s\" id doesn't exist.",
-                    taskStateId
-                )
-            )
-        );
+    return parsedFields;
   }
-}
\ No newline at end of file
+}
@@ -0,0 +1,305 @@
+package org.example.api.controllers.helpers;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import java.io.IOException;
+import java.net.SocketTimeoutException;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.SynchronousQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import javax.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.log4j.Log4j2;
+import org.example.api.dto.BoardEventDto;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+import org.springframework.stereotype.Component;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+/**
+ * Once committed, fans board changes out to SSE subscribers of the project; the change log seq
+ * becomes the SSE event id. Every subscriber has its own
+ * bounded buffer drained by a sender pool; a subscriber whose buffer overflows, or whose send
+ * doesn't finish within {@link #SEND_TIMEOUT_MILLIS}, is disconnected, so it re-subscribes and
+ * fetches the board again instead of slowing everyone down. Sends are blocking, the pool grows
+ * past the threads stuck in them so that other subscribers keep being served.
+ */
+@Log4j2
+@Component
+public class BoardEventPublisher {
+
+  public static final int SUBSCRIBER_BUFFER_SIZE = 256;
+
+  public static final long SEND_TIMEOUT_MILLIS = 5_000;
+
+  private static final int SENDER_THREADS = 4;
+
+  private static final int MAX_SENDER_THREADS = 64;
+
+  private static final long STALLED_SEND_CHECK_PERIOD_MILLIS = 1_000;
+
+  private static final long SUBSCRIPTION_TIMEOUT_MILLIS = TimeUnit.MINUTES.toMillis(30);
+
+  private static final long HEARTBEAT_PERIOD_SECONDS = 15;
+
+  private static final OutgoingEvent HEARTBEAT = new OutgoingEvent(null, null, null);
+
+  private final ChangeVersionHelper changeVersionHelper;
+
+  private final ObjectMapper objectMapper;
+
+  private final Map<Long, Set<Subscriber>> subscribersByProject = new ConcurrentHashMap<>();
+
+  private final ExecutorService sender;
+
+  private final ScheduledExecutorService heartbeat;
+
+  public BoardEventPublisher(
+      ChangeVersionHelper changeVersionHelper,
+      ObjectMapper objectMapper) {
+
+    this.changeVersionHelper = changeVersionHelper;
+    this.objectMapper = objectMapper;
+
+    CustomizableThreadFactory senderThreadFactory = new CustomizableThreadFactory("board-events-");
+    senderThreadFactory.setDaemon(true);
+    sender = new ThreadPoolExecutor(
+        SENDER_THREADS,
+        MAX_SENDER_THREADS,
+        1,
+        TimeUnit.MINUTES,
+        new SynchronousQueue<>(),
+        senderThreadFactory
+    );
+
+    CustomizableThreadFactory heartbeatThreadFactory = new CustomizableThreadFactory("board-events-heartbeat-");
+    heartbeatThreadFactory.setDaemon(true);
+    heartbeat = Executors.newSingleThreadScheduledExecutor(heartbeatThreadFactory);
+    heartbeat.scheduleAtFixedRate(
+        this::sendHeartbeats,
+        HEARTBEAT_PERIOD_SECONDS,
+        HEARTBEAT_PERIOD_SECONDS,
+        TimeUnit.SECONDS
+    );
+    heartbeat.scheduleWithFixedDelay(
+        this::disconnectStalledSubscribers,
+        STALLED_SEND_CHECK_PERIOD_MILLIS,
+        STALLED_SEND_CHECK_PERIOD_MILLIS,
+        TimeUnit.MILLISECONDS
+    );
+  }
+
+  public SseEmitter subscribe(Long projectId) {
+
+    Subscriber subscriber = new Subscriber(projectId, new SseEmitter(SUBSCRIPTION_TIMEOUT_MILLIS));
+
+    subscriber.emitter.onCompletion(() -> unsubscribe(subscriber));
+    subscriber.emitter.onTimeout(() -> unsubscribe(subscriber));
+    subscriber.emitter.onError(ex -> unsubscribe(subscriber));
+
+    subscribersByProject.compute(projectId, (id, subscribers) -> {
+
+      Set<Subscriber> projectSubscribers = subscribers == null
+          ? ConcurrentHashMap.newKeySet()
+          : subscribers;
+
+      projectSubscribers.add(subscriber);
+
+      return projectSubscribers;
+    });
+
+    return subscriber.emitter;
+  }
+
+  /**
+   * Fans the event out once the transaction commits. Write paths record the change log entry
+   * themselves and pass its seq in the event.
+   */
+  public void publishAfterCommit(BoardEventDto event) {
+
+    changeVersionHelper.boardChangedAfterCommit(event.getProjectId());
+
+    AfterCommit.run(() -> publish(event));
+  }
+
+  public void publishBoardChangedAfterCommit(Long projectId, Long seq) {
+    publishAfterCommit(BoardEventDto.builder()
+        .seq(seq)
+        .type(BoardEventDto.Type.BOARD_CHANGED)
+        .projectId(projectId)
+        .build());
+  }
+
+  @PreDestroy
+  public void close() {
+
+    heartbeat.shutdownNow();
+    sender.shutdownNow();
+
+    subscribersByProject.values().forEach(subscribers -> subscribers.forEach(subscriber -> {
+      try {
+        subscriber.emitter.complete();
+      } catch (RuntimeException ex) {
+        log.debug("Subscriber is already closed", ex);
+      }
+    }));
+  }
+
+  private void publish(BoardEventDto event) {
+
+    Set<Subscriber> subscribers = subscribersByProject.get(event.getProjectId());
+
+    if (subscribers == null || subscribers.isEmpty()) {
+      return;
+    }
+
+    OutgoingEvent outgoingEvent;
+    try {
+      outgoingEvent = new OutgoingEvent(
+          event.getSeq() == null ? null : event.getSeq().toString(),
+          event.getType().getEventName(),
+          objectMapper.writeValueAsString(event)
+      );
+    } catch (JsonProcessingException ex) {
+      log.error("Board event can't be serialized", ex);
+      return;
+    }
+
+    subscribers.forEach(subscriber -> offer(subscriber, outgoingEvent));
+  }
+
+  private void sendHeartbeats() {
+    subscribersByProject.values().forEach(subscribers -> subscribers.forEach(subscriber ->
+        offer(subscriber, HEARTBEAT)));
+  }
+
+  private void disconnectStalledSubscribers() {
+
+    long now = System.currentTimeMillis();
+
+    subscribersByProject.values().forEach(subscribers -> subscribers.forEach(subscriber -> {
+
+      long sendStartedAt = subscriber.sendStartedAt;
+
+      if (sendStartedAt == 0 || now - sendStartedAt < SEND_TIMEOUT_MILLIS) {
+        return;
+      }
+
+      log.info("Disconnecting stalled board event subscriber of project {}", subscriber.projectId);
+
+      unsubscribe(subscriber);
+      subscriber.queue.clear();
+      subscriber.emitter.completeWithError(new SocketTimeoutException(
+          String.format("Board event wasn't sent within %d ms", SEND_TIMEOUT_MILLIS)));
+    }));
+  }
+
+  private void offer(Subscriber subscriber, OutgoingEvent event) {
+
+    if (!subscriber.queue.offer(event)) {
+
+      log.info("Disconnecting slow board event subscriber of project {}", subscriber.projectId);
+
+      unsubscribe(subscriber);
+      subscriber.emitter.complete();
+      return;
+    }
+
+    scheduleDrain(subscriber);
+  }
+
+  private void scheduleDrain(Subscriber subscriber) {
+
+    if (!subscriber.draining.compareAndSet(false, true)) {
+      return;
+    }
+
+    try {
+      sender.execute(() -> drain(subscriber));
+    } catch (RejectedExecutionException ex) {
+      subscriber.draining.set(false);
+    }
+  }
+
+  private void drain(Subscriber subscriber) {
+
+    try {
+      OutgoingEvent event;
+      while ((event = subscriber.queue.poll()) != null) {
+
+        subscriber.sendStartedAt = System.currentTimeMillis();
+
+        subscriber.emitter.send(event == HEARTBEAT
+            ? SseEmitter.event().comment("heartbeat")
+            : makeSseEvent(event));
+
+        subscriber.sendStartedAt = 0;
+      }
+    } catch (IOException | IllegalStateException ex) {
+
+      log.debug("Board event subscriber of project {} is gone", subscriber.projectId, ex);
+
+      unsubscribe(subscriber);
+      subscriber.queue.clear();
+    } finally {
+      subscriber.sendStartedAt = 0;
+      subscriber.draining.set(false);
+    }
+
+    if (!subscriber.queue.isEmpty()) {
+      scheduleDrain(subscriber);
+    }
+  }
+
+  private static SseEmitter.SseEventBuilder makeSseEvent(OutgoingEvent event) {
+
+    SseEmitter.SseEventBuilder sseEvent = SseEmitter.event()
+        .name(event.name)
+        .data(event.json);
+
+    return event.id == null ? sseEvent : sseEvent.id(event.id);
+  }
+
+  private void unsubscribe(Subscriber subscriber) {
+    subscribersByProject.computeIfPresent(subscriber.projectId, (projectId, subscribers) -> {
+
+      subscribers.remove(subscriber);
+
+      return subscribers.isEmpty() ? null : subscribers;
+    });
+  }
+
+  @RequiredArgsConstructor
+  private static class OutgoingEvent {
+
+    final String id;
+
+    final String name;
+
+    final String json;
+  }
+
+  @RequiredArgsConstructor
+  private static class Subscriber {
+
+    final Long projectId;
+
+    final SseEmitter emitter;
+
+    final BlockingQueue<OutgoingEvent> queue = new ArrayBlockingQueue<>(SUBSCRIBER_BUFFER_SIZE);
+
+    final AtomicBoolean draining = new AtomicBoolean();
+
+    // Epoch millis the send in progress started at, 0 when idle
+    volatile long sendStartedAt;
+  }
+}
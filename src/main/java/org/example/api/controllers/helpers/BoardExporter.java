@@ -0,0 +1,253 @@
+package org.example.api.controllers.helpers;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import java.io.BufferedWriter;
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.UncheckedIOException;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.util.Iterator;
+import java.util.List;
+import java.util.stream.Stream;
+import javax.persistence.EntityManager;
+import lombok.RequiredArgsConstructor;
+import org.example.api.exceptions.NotFoundException;
+import org.example.store.entities.ProjectEntity;
+import org.example.store.entities.TaskEntity;
+import org.example.store.entities.TaskStateEntity;
+import org.example.store.repositories.ProjectRepository;
+import org.example.store.repositories.TaskRepository;
+import org.example.store.repositories.TaskStateRepository;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+@RequiredArgsConstructor
+@Component
+public class BoardExporter {
+
+  public static final String CSV_HEADER =
+      "task_state_name,task_name,task_description,task_created_at";
+
+  private final ProjectRepository projectRepository;
+
+  private final TaskStateRepository taskStateRepository;
+
+  private final TaskRepository taskRepository;
+
+  private final EntityManager entityManager;
+
+  private final ObjectMapper objectMapper;
+
+  private final PlatformTransactionManager transactionManager;
+
+  public void writeJson(Long projectId, OutputStream outputStream) {
+    try (BoardWriter boardWriter = new JsonBoardWriter(outputStream)) {
+      export(projectId, boardWriter);
+    } catch (IOException ex) {
+      throw new UncheckedIOException(ex);
+    }
+  }
+
+  public void writeCsv(Long projectId, OutputStream outputStream) {
+    try (BoardWriter boardWriter = new CsvBoardWriter(outputStream)) {
+      export(projectId, boardWriter);
+    } catch (IOException ex) {
+      throw new UncheckedIOException(ex);
+    }
+  }
+
+  private void export(Long projectId, BoardWriter boardWriter) {
+
+    TransactionTemplate transactionTemplate = new TransactionTemplate(transactionManager);
+    transactionTemplate.setReadOnly(true);
+
+    transactionTemplate.executeWithoutResult(status -> {
+
+      ProjectEntity project = projectRepository
+          .findById(projectId)
+          .orElseThrow(() -> new NotFoundException(
+              String.format("Project with \"%s\" doesn't exist", projectId)));
+
+      List<TaskStateEntity> taskStates = taskStateRepository
+          .findAllByProjectIdOrderByRankAsc(projectId);
+
+      try (Stream<TaskEntity> taskStream = taskRepository.streamAllByProjectId(projectId)) {
+
+        Iterator<TaskEntity> taskIterator = taskStream.iterator();
+        TaskEntity task = taskIterator.hasNext() ? taskIterator.next() : null;
+
+        boardWriter.startProject(project);
+
+        for (TaskStateEntity taskState : taskStates) {
+
+          boardWriter.startTaskState(taskState);
+
+          while (task != null && task.getTaskState().getId().equals(taskState.getId())) {
+
+            boardWriter.writeTask(task);
+
+            entityManager.detach(task);
+
+            task = taskIterator.hasNext() ? taskIterator.next() : null;
+          }
+
+          boardWriter.endTaskState();
+        }
+
+        boardWriter.endProject();
+      } catch (IOException ex) {
+        throw new UncheckedIOException(ex);
+      }
+    });
+  }
+
+  private interface BoardWriter extends Closeable {
+
+    void startProject(ProjectEntity project) throws IOException;
+
+    void startTaskState(TaskStateEntity taskState) throws IOException;
+
+    void writeTask(TaskEntity task) throws IOException;
+
+    void endTaskState() throws IOException;
+
+    void endProject() throws IOException;
+  }
+
+  private class JsonBoardWriter implements BoardWriter {
+
+    private final JsonGenerator generator;
+
+    JsonBoardWriter(OutputStream outputStream) throws IOException {
+      generator = objectMapper.getFactory().createGenerator(outputStream);
+      generator.disable(JsonGenerator.Feature.AUTO_CLOSE_TARGET);
+    }
+
+    @Override
+    public void startProject(ProjectEntity project) throws IOException {
+      generator.writeStartObject();
+      generator.writeStringField("name", project.getName());
+      generator.writeStringField("created_at", project.getCreatedAt().toString());
+      generator.writeArrayFieldStart("task_states");
+    }
+
+    @Override
+    public void startTaskState(TaskStateEntity taskState) throws IOException {
+      generator.writeStartObject();
+      generator.writeStringField("name", taskState.getName());
+      generator.writeStringField("created_at", taskState.getCreatedAt().toString());
+      generator.writeArrayFieldStart("tasks");
+    }
+
+    @Override
+    public void writeTask(TaskEntity task) throws IOException {
+      generator.writeStartObject();
+      generator.writeStringField("name", task.getName());
+      generator.writeStringField("description", task.getDescription());
+      generator.writeStringField("created_at", task.getCreatedAt().toString());
+      generator.writeEndObject();
+    }
+
+    @Override
+    public void endTaskState() throws IOException {
+      generator.writeEndArray();
+      generator.writeEndObject();
+    }
+
+    @Override
+    public void endProject() throws IOException {
+      generator.writeEndArray();
+      generator.writeEndObject();
+    }
+
+    @Override
+    public void close() throws IOException {
+      generator.close();
+    }
+  }
+
+  private static class CsvBoardWriter implements BoardWriter {
+
+    private final Writer writer;
+
+    private TaskStateEntity currentTaskState;
+
+    private boolean currentTaskStateHasTasks;
+
+    CsvBoardWriter(OutputStream outputStream) {
+      writer = new BufferedWriter(new OutputStreamWriter(outputStream, StandardCharsets.UTF_8));
+    }
+
+    @Override
+    public void startProject(ProjectEntity project) throws IOException {
+      writer.write(CSV_HEADER);
+      writer.write("\r\n");
+    }
+
+    @Override
+    public void startTaskState(TaskStateEntity taskState) {
+      currentTaskState = taskState;
+      currentTaskStateHasTasks = false;
+    }
+
+    @Override
+    public void writeTask(TaskEntity task) throws IOException {
+      currentTaskStateHasTasks = true;
+      writeRecord(
+          currentTaskState.getName(),
+          task.getName(),
+          task.getDescription(),
+          task.getCreatedAt().toString()
+      );
+    }
+
+    @Override
+    public void endTaskState() throws IOException {
+      if (!currentTaskStateHasTasks) {
+        writeRecord(currentTaskState.getName(), "", "", "");
+      }
+    }
+
+    @Override
+    public void endProject() {
+    }
+
+    @Override
+    public void close() throws IOException {
+      writer.flush();
+    }
+
+    private void writeRecord(String... fields) throws IOException {
+
+      for (int i = 0; i < fields.length; i++) {
+
+        if (i > 0) {
+          writer.write(',');
+        }
+
+        writer.write(escape(fields[i]));
+      }
+
+      writer.write("\r\n");
+    }
+
+    private static String escape(String field) {
+
+      if (field == null) {
+        return "";
+      }
+
+      if (field.indexOf(',') < 0 && field.indexOf('"') < 0
+          && field.indexOf('\n') < 0 && field.indexOf('\r') < 0) {
+        return field;
+      }
+
+      return '"' + field.replace("\"", "\"\"") + '"';
+    }
+  }
+}
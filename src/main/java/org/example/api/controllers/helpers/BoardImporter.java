@@ -0,0 +1,417 @@
+package org.example.api.controllers.helpers;
+
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.time.format.DateTimeParseException;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Optional;
+import java.util.Set;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.log4j.Log4j2;
+import org.example.api.dto.BoardEventDto;
+import org.example.api.dto.ProjectDto;
+import org.example.api.exceptions.BadRequestException;
+import org.example.api.factories.ProjectDtoFactory;
+import org.example.store.entities.ProjectEntity;
+import org.example.store.entities.TaskEntity;
+import org.example.store.entities.TaskStateEntity;
+import org.example.store.repositories.ProjectRepository;
+import org.example.store.repositories.TaskRepository;
+import org.example.store.repositories.TaskStateRepository;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+@Log4j2
+@RequiredArgsConstructor
+@Component
+public class BoardImporter {
+
+  public static final int IMPORT_BATCH_SIZE = 1000;
+
+  private final ProjectRepository projectRepository;
+
+  private final TaskStateRepository taskStateRepository;
+
+  private final TaskRepository taskRepository;
+
+  private final ProjectDtoFactory projectDtoFactory;
+
+  private final ObjectMapper objectMapper;
+
+  private final TransactionTemplate transactionTemplate;
+
+  private final ProjectNameIndex projectNameIndex;
+
+  private final ControllerHelper controllerHelper;
+
+  private final ChangeVersionHelper changeVersionHelper;
+
+  private final BoardEventPublisher boardEventPublisher;
+
+  private final ChangeLogHelper changeLogHelper;
+
+  private final ProjectPurger projectPurger;
+
+  public ProjectDto importJson(InputStream inputStream, Optional<String> optionalProjectName) {
+
+    ProjectImport projectImport = null;
+
+    try (JsonParser parser = objectMapper.getFactory().createParser(inputStream)) {
+
+      expectToken(parser.nextToken(), JsonToken.START_OBJECT);
+
+      String projectName = optionalProjectName.orElse(null);
+      Instant projectCreatedAt = null;
+
+      while (parser.nextToken() == JsonToken.FIELD_NAME) {
+
+        String fieldName = parser.getCurrentName();
+        JsonToken valueToken = parser.nextToken();
+
+        if ("name".equals(fieldName)) {
+          projectName = optionalProjectName.orElse(parser.getValueAsString());
+        } else if ("created_at".equals(fieldName)) {
+          projectCreatedAt = parseInstant(parser.getValueAsString());
+        } else if ("task_states".equals(fieldName) && projectImport == null) {
+
+          expectToken(valueToken, JsonToken.START_ARRAY);
+
+          projectImport = new ProjectImport(projectName, projectCreatedAt);
+
+          while (parser.nextToken() == JsonToken.START_OBJECT) {
+            readTaskState(parser, projectImport);
+          }
+        } else {
+          parser.skipChildren();
+        }
+      }
+
+      if (projectImport == null) {
+        projectImport = new ProjectImport(projectName, projectCreatedAt);
+      }
+
+      return projectImport.finish();
+    } catch (JsonProcessingException ex) {
+      throw new BadRequestException(
+          String.format("Project JSON is malformed: %s", ex.getOriginalMessage()));
+    } catch (IOException ex) {
+      throw new UncheckedIOException(ex);
+    } finally {
+      if (projectImport != null) {
+        projectImport.abortUnlessFinished();
+      }
+    }
+  }
+
+  public ProjectDto importCsv(InputStream inputStream, String projectName) {
+
+    CsvReader csvReader = new CsvReader(
+        new BufferedReader(new InputStreamReader(inputStream, StandardCharsets.UTF_8)));
+
+    ProjectImport projectImport = null;
+
+    try {
+
+      List<String> header = csvReader.readRecord();
+      if (header == null) {
+        throw new BadRequestException("CSV is empty.");
+      }
+
+      int taskStateNameColumn = findColumn(header, "task_state_name");
+      int taskNameColumn = findColumn(header, "task_name");
+      int taskDescriptionColumn = findColumn(header, "task_description");
+      int taskCreatedAtColumn = findColumn(header, "task_created_at");
+
+      projectImport = new ProjectImport(projectName, null);
+
+      String currentTaskStateName = null;
+
+      for (List<String> record = csvReader.readRecord();
+          record != null;
+          record = csvReader.readRecord()) {
+
+        if (record.size() == 1 && record.get(0).isEmpty()) {
+          continue;
+        }
+
+        String taskStateName = getColumn(record, taskStateNameColumn);
+
+        if (!taskStateName.equals(currentTaskStateName)) {
+          projectImport.startTaskState(taskStateName, null);
+          currentTaskStateName = taskStateName;
+        }
+
+        String taskName = getColumn(record, taskNameColumn);
+
+        if (!taskName.isEmpty()) {
+          projectImport.addTask(
+              taskName,
+              getColumn(record, taskDescriptionColumn),
+              parseInstant(getColumn(record, taskCreatedAtColumn))
+          );
+        }
+      }
+
+      return projectImport.finish();
+    } catch (IOException ex) {
+      throw new UncheckedIOException(ex);
+    } finally {
+      if (projectImport != null) {
+        projectImport.abortUnlessFinished();
+      }
+    }
+  }
+
+  private void readTaskState(JsonParser parser, ProjectImport projectImport) throws IOException {
+
+    String taskStateName = null;
+    Instant taskStateCreatedAt = null;
+    boolean started = false;
+
+    while (parser.nextToken() == JsonToken.FIELD_NAME) {
+
+      String fieldName = parser.getCurrentName();
+      JsonToken valueToken = parser.nextToken();
+
+      if ("name".equals(fieldName)) {
+        taskStateName = parser.getValueAsString();
+      } else if ("created_at".equals(fieldName)) {
+        taskStateCreatedAt = parseInstant(parser.getValueAsString());
+      } else if ("tasks".equals(fieldName) && !started) {
+
+        expectToken(valueToken, JsonToken.START_ARRAY);
+
+        projectImport.startTaskState(taskStateName, taskStateCreatedAt);
+        started = true;
+
+        while (parser.nextToken() == JsonToken.START_OBJECT) {
+          readTask(parser, projectImport);
+        }
+      } else {
+        parser.skipChildren();
+      }
+    }
+
+    if (!started) {
+      projectImport.startTaskState(taskStateName, taskStateCreatedAt);
+    }
+  }
+
+  private void readTask(JsonParser parser, ProjectImport projectImport) throws IOException {
+
+    String taskName = null;
+    String taskDescription = null;
+    Instant taskCreatedAt = null;
+
+    while (parser.nextToken() == JsonToken.FIELD_NAME) {
+
+      String fieldName = parser.getCurrentName();
+      parser.nextToken();
+
+      if ("name".equals(fieldName)) {
+        taskName = parser.getValueAsString();
+      } else if ("description".equals(fieldName)) {
+        taskDescription = parser.getValueAsString();
+      } else if ("created_at".equals(fieldName)) {
+        taskCreatedAt = parseInstant(parser.getValueAsString());
+      } else {
+        parser.skipChildren();
+      }
+    }
+
+    projectImport.addTask(taskName, taskDescription, taskCreatedAt);
+  }
+
+  private static void expectToken(JsonToken actual, JsonToken expected) {
+    if (actual != expected) {
+      throw new BadRequestException(
+          String.format("Project JSON is malformed: expected %s but found %s", expected, actual));
+    }
+  }
+
+  private static int findColumn(List<String> header, String column) {
+
+    int index = header.indexOf(column);
+    if (index < 0) {
+      throw new BadRequestException(String.format("CSV column \"%s\" is missing.", column));
+    }
+
+    return index;
+  }
+
+  private static String getColumn(List<String> record, int index) {
+    return index < record.size() ? record.get(index) : "";
+  }
+
+  private static Instant parseInstant(String value) {
+
+    if (value == null || value.isEmpty()) {
+      return null;
+    }
+
+    try {
+      return Instant.parse(value);
+    } catch (DateTimeParseException ex) {
+      throw new BadRequestException(String.format("Timestamp \"%s\" is invalid.", value));
+    }
+  }
+
+  private class ProjectImport {
+
+    private final ProjectEntity project;
+
+    private final Set<String> taskStateNames = new HashSet<>();
+
+    private final List<TaskStateEntity> pendingTaskStates = new ArrayList<>();
+
+    private final List<TaskEntity> pendingTasks = new ArrayList<>(IMPORT_BATCH_SIZE);
+
+    private TaskStateEntity currentTaskState;
+
+    private long nextRank = TaskStateRankHelper.RANK_STEP;
+
+    private boolean finished;
+
+    ProjectImport(String name, Instant createdAt) {
+
+      if (name == null || name.trim().isEmpty()) {
+        throw new BadRequestException("Name cannot be empty");
+      }
+
+      project = transactionTemplate.execute(status -> {
+
+        ProjectEntity savedProject = controllerHelper.saveUniqueOrThrowException(
+            () -> projectRepository.saveAndFlush(
+                ProjectEntity.builder()
+                    .name(name)
+                    .createdAt(Optional.ofNullable(createdAt).orElseGet(Instant::now))
+                    .build()
+            ),
+            String.format("Project \"%s\" already exists", name)
+        );
+
+        projectNameIndex.putAfterCommit(savedProject);
+
+        changeVersionHelper.projectListChanged();
+
+        return savedProject;
+      });
+    }
+
+    void startTaskState(String name, Instant createdAt) {
+
+      if (name == null || name.trim().isEmpty()) {
+        throw new BadRequestException("Task state name can't be empty.");
+      }
+
+      if (!taskStateNames.add(name.toLowerCase(Locale.ROOT))) {
+        throw new BadRequestException(String.format("Task state \"%s\" already exists.", name));
+      }
+
+      currentTaskState = TaskStateEntity.builder()
+          .name(name)
+          .rank(nextRank)
+          .project(project)
+          .createdAt(Optional.ofNullable(createdAt).orElseGet(Instant::now))
+          .build();
+
+      nextRank += TaskStateRankHelper.RANK_STEP;
+
+      pendingTaskStates.add(currentTaskState);
+    }
+
+    void addTask(String name, String description, Instant createdAt) {
+
+      if (currentTaskState == null) {
+        throw new BadRequestException("Task must belong to a task state.");
+      }
+
+      if (name == null || name.trim().isEmpty()) {
+        throw new BadRequestException("Task name can't be empty.");
+      }
+
+      pendingTasks.add(
+          TaskEntity.builder()
+              .name(name)
+              .description(Optional.ofNullable(description).orElse(""))
+              .createdAt(Optional.ofNullable(createdAt).orElseGet(Instant::now))
+              .taskState(currentTaskState)
+              .build()
+      );
+
+      if (pendingTasks.size() >= IMPORT_BATCH_SIZE) {
+        flush();
+      }
+    }
+
+    ProjectDto finish() {
+
+      flush();
+
+      finished = true;
+
+      return projectDtoFactory.makeProjectDto(project);
+    }
+
+    /**
+     * The project is committed before the body is read, so a failed import must not leave a
+     * partial board holding the name. It is soft-deleted and purged like a deleted project.
+     */
+    void abortUnlessFinished() {
+
+      if (finished) {
+        return;
+      }
+
+      try {
+        transactionTemplate.executeWithoutResult(status -> {
+
+          projectRepository.findById(project.getId()).ifPresent(projectPurger::markDeleted);
+
+          projectNameIndex.removeAfterCommit(project.getId());
+
+          changeVersionHelper.projectListChanged();
+
+          boardEventPublisher.publishAfterCommit(BoardEventDto.builder()
+              .type(BoardEventDto.Type.PROJECT_DELETED)
+              .projectId(project.getId())
+              .build());
+        });
+      } catch (RuntimeException ex) {
+        log.error("Failed to delete partially imported project {}", project.getId(), ex);
+      }
+    }
+
+    private void flush() {
+
+      if (pendingTaskStates.isEmpty() && pendingTasks.isEmpty()) {
+        return;
+      }
+
+      transactionTemplate.executeWithoutResult(status -> {
+
+        taskStateRepository.saveAll(pendingTaskStates);
+        taskRepository.saveAll(pendingTasks);
+
+        boardEventPublisher.publishBoardChangedAfterCommit(
+            project.getId(),
+            changeLogHelper.recordResync(project.getId()));
+      });
+
+      pendingTaskStates.clear();
+      pendingTasks.clear();
+    }
+  }
+}
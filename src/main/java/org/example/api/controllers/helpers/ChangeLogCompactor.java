@@ -0,0 +1,72 @@
+package org.example.api.controllers.helpers;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.function.IntSupplier;
+import lombok.extern.log4j.Log4j2;
+import org.example.store.repositories.ChangeLogRepository;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * Keeps only the latest entry per entity, then drops tombstones and entries of deleted projects
+ * older than the retention. Clients that synced before a dropped tombstone are told to resync.
+ */
+@Log4j2
+@Component
+public class ChangeLogCompactor {
+
+  private final ChangeLogRepository changeLogRepository;
+
+  private final TransactionTemplate transactionTemplate;
+
+  private final Duration tombstoneRetention;
+
+  private final int batchSize;
+
+  public ChangeLogCompactor(
+      ChangeLogRepository changeLogRepository,
+      PlatformTransactionManager transactionManager,
+      @Value("${task-tracker.change-log.tombstone-retention:P30D}") Duration tombstoneRetention,
+      @Value("${task-tracker.change-log.compaction-batch-size:10000}") int batchSize) {
+
+    this.changeLogRepository = changeLogRepository;
+    this.transactionTemplate = new TransactionTemplate(transactionManager);
+    this.tombstoneRetention = tombstoneRetention;
+    this.batchSize = batchSize;
+  }
+
+  @Scheduled(
+      initialDelayString = "${task-tracker.change-log.compaction-interval:PT1H}",
+      fixedDelayString = "${task-tracker.change-log.compaction-interval:PT1H}"
+  )
+  public void compact() {
+
+    long superseded = deleteInBatches(() -> changeLogRepository.deleteSupersededBatch(batchSize));
+
+    Instant cutoff = Instant.now().minus(tombstoneRetention);
+
+    transactionTemplate.executeWithoutResult(status ->
+        changeLogRepository.raiseMinSeqsForTombstonesBefore(cutoff));
+
+    long expired = deleteInBatches(() -> changeLogRepository.deleteExpiredBatch(cutoff, batchSize));
+
+    log.info("Change log compacted: {} superseded and {} expired entries removed", superseded, expired);
+  }
+
+  private long deleteInBatches(IntSupplier batchDelete) {
+
+    long total = 0;
+
+    int deleted;
+    do {
+      deleted = transactionTemplate.execute(status -> batchDelete.getAsInt());
+      total += deleted;
+    } while (deleted >= batchSize);
+
+    return total;
+  }
+}
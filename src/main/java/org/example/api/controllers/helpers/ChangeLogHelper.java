@@ -0,0 +1,89 @@
+package org.example.api.controllers.helpers;
+
+import java.util.ArrayList;
+import java.util.List;
+import javax.transaction.Transactional;
+import lombok.RequiredArgsConstructor;
+import lombok.Value;
+import org.example.store.entities.ChangeLogEntity;
+import org.example.store.entities.ChangeLogEntity.EntityType;
+import org.example.store.repositories.ChangeLogRepository;
+import org.springframework.stereotype.Component;
+
+@RequiredArgsConstructor
+@Component
+@Transactional(Transactional.TxType.MANDATORY)
+public class ChangeLogHelper {
+
+  private final ChangeLogRepository changeLogRepository;
+
+  public Long record(Long projectId, Change change) {
+    return record(projectId, List.of(change));
+  }
+
+  /**
+   * Appends the changes to the project's log in the caller's transaction and returns the seq of
+   * the last one.
+   */
+  public Long record(Long projectId, List<Change> changes) {
+
+    Long lastSeq = changeLogRepository.allocateSeqs(projectId, changes.size());
+
+    if (lastSeq == null) {
+      throw new IllegalStateException(
+          String.format("Project \"%s\" disappeared while its changes were recorded", projectId));
+    }
+
+    long seq = lastSeq - changes.size();
+
+    List<ChangeLogEntity> entries = new ArrayList<>(changes.size());
+
+    for (Change change : changes) {
+      entries.add(ChangeLogEntity.builder()
+          .projectId(projectId)
+          .seq(++seq)
+          .entityType(change.getEntityType())
+          .entityId(change.getEntityId())
+          .deleted(change.isDeleted())
+          .build());
+    }
+
+    changeLogRepository.saveAll(entries);
+
+    return lastSeq;
+  }
+
+  /**
+   * Takes a seq without logging entries, for changes too large to describe one by one. Clients
+   * that synced before it are told to fetch the board again.
+   */
+  public Long recordResync(Long projectId) {
+
+    Long seq = changeLogRepository.allocateResyncSeq(projectId);
+
+    if (seq == null) {
+      throw new IllegalStateException(
+          String.format("Project \"%s\" disappeared while its changes were recorded", projectId));
+    }
+
+    return seq;
+  }
+
+  @Value
+  public static class Change {
+
+    EntityType entityType;
+
+    Long entityId;
+
+    boolean deleted;
+
+    public static Change upserted(EntityType entityType, Long entityId) {
+      return new Change(entityType, entityId, false);
+    }
+
+    public static Change deleted(EntityType entityType, Long entityId) {
+      return new Change(entityType, entityId, true);
+    }
+  }
+}
@@ -0,0 +1,89 @@
+package org.example.api.controllers.helpers;
+
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import javax.transaction.Transactional;
+import lombok.RequiredArgsConstructor;
+import org.example.store.datasource.ReadRoutingProperties;
+import org.example.store.repositories.ProjectRepository;
+import org.springframework.stereotype.Component;
+
+/**
+ * ETags are derived from versions stored with the data, so every instance and every replica that
+ * serves the body agrees on them. They are read in the caller's transaction before the body, which
+ * then can't be older than its ETag.
+ */
+@RequiredArgsConstructor
+@Component
+public class ChangeVersionHelper {
+
+  private final ProjectRepository projectRepository;
+
+  private final ReadRoutingProperties readRoutingProperties;
+
+  private volatile long projectListChangedAt;
+
+  private final Map<Long, Long> boardChangedAt = new ConcurrentHashMap<>();
+
+  public static String makeProjectListEtag(String representation, long version) {
+    return String.format("\"projects-%s-%d\"", representation, version);
+  }
+
+  public static String makeBoardEtag(Long projectId, String representation, long lastChangeSeq) {
+    return String.format("\"board-%d-%s-%d\"", projectId, representation, lastChangeSeq);
+  }
+
+  public String getProjectListEtag(String representation) {
+    return makeProjectListEtag(representation, projectRepository.findProjectListVersion());
+  }
+
+  /**
+   * Empty when the project doesn't exist, so a deleted board is never revalidated.
+   */
+  public Optional<String> findBoardEtag(Long projectId, String representation) {
+    return projectRepository
+        .findLastChangeSeqById(projectId)
+        .map(lastChangeSeq -> makeBoardEtag(projectId, representation, lastChangeSeq));
+  }
+
+  /**
+   * Epoch millis of the last change committed through this instance, 0 if none.
+   */
+  public long getProjectListChangedAt() {
+    return projectListChangedAt;
+  }
+
+  public long getBoardChangedAt(Long projectId) {
+    return boardChangedAt.getOrDefault(projectId, 0L);
+  }
+
+  /**
+   * Bumps the project list version in the writing transaction. Board versions need no such call,
+   * they move with the change log seq every board write allocates.
+   */
+  @Transactional(Transactional.TxType.MANDATORY)
+  public void projectListChanged() {
+
+    projectRepository.incrementProjectListVersion();
+
+    AfterCommit.run(() -> projectListChangedAt = System.currentTimeMillis());
+  }
+
+  // Only needed for the read-your-writes window, entries older than it are dropped
+  public void boardChangedAfterCommit(Long projectId) {
+
+    if (readRoutingProperties.getReplicas().isEmpty()) {
+      return;
+    }
+
+    AfterCommit.run(() -> {
+
+      long now = System.currentTimeMillis();
+      long window = readRoutingProperties.getReadYourWritesWindow().toMillis();
+
+      boardChangedAt.values().removeIf(changedAt -> now - changedAt >= window);
+      boardChangedAt.put(projectId, now);
+    });
+  }
+}
@@ -1,10 +1,16 @@
 package org.example.api.controllers.helpers;
 
+import java.sql.SQLException;
+import java.util.function.Supplier;
 import javax.transaction.Transactional;
 import lombok.RequiredArgsConstructor;
+import org.example.api.exceptions.BadRequestException;
 import org.example.api.exceptions.NotFoundException;
 import org.example.store.entities.ProjectEntity;
+import org.example.store.entities.TaskStateEntity;
 import org.example.store.repositories.ProjectRepository;
+import org.example.store.repositories.TaskStateRepository;
+import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.stereotype.Component;
 
 @RequiredArgsConstructor
@@ -12,11 +18,63 @@ import org.springframework.stereotype.Component;
 @Transactional
 public class ControllerHelper {
 
+  private static final String UNIQUE_VIOLATION_SQL_STATE = "23505";
+
   private final ProjectRepository projectRepository;
+
+  private final TaskStateRepository taskStateRepository;
+
   public ProjectEntity getProjectOrThrowException(Long projectId) {
     return projectRepository
         .findById(projectId)
+        .filter(project -> !project.isDeleted())
         .orElseThrow(() -> new NotFoundException(
             String.format("Project with \"%s\" doesn't exist", projectId)));
   }
+
+  public void checkProjectExistsOrThrowException(Long projectId) {
+    if (!projectRepository.existsByIdAndDeletedFalse(projectId)) {
+      throw new NotFoundException(String.format("Project with \"%s\" doesn't exist", projectId));
+    }
+  }
+
+  public TaskStateEntity getTaskStateOrThrowException(Long taskStateId) {
+
+    return taskStateRepository
+        .findById(taskStateId)
+        .filter(taskState -> !taskState.isDeleted())
+        .orElseThrow(() ->
+            new NotFoundException(
+                String.format(
+                    "Task state with \"%s\" id doesn't exist.",
+                    taskStateId
+                )
+            )
+        );
+  }
+
+  public <T> T saveUniqueOrThrowException(Supplier<T> saveAction, String duplicateMessage) {
+    try {
+      return saveAction.get();
+    } catch (DataIntegrityViolationException ex) {
+
+      if (isUniqueViolation(ex)) {
+        throw new BadRequestException(duplicateMessage);
+      }
+
+      throw ex;
+    }
+  }
+
+  private static boolean isUniqueViolation(DataIntegrityViolationException ex) {
+
+    for (Throwable cause = ex; cause != null; cause = cause.getCause()) {
+      if (cause instanceof SQLException
+          && UNIQUE_VIOLATION_SQL_STATE.equals(((SQLException) cause).getSQLState())) {
+        return true;
+      }
+    }
+
+    return false;
+  }
 }
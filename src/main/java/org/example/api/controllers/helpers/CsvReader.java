@@ -0,0 +1,85 @@
+package org.example.api.controllers.helpers;
+
+import java.io.IOException;
+import java.io.Reader;
+import java.util.ArrayList;
+import java.util.List;
+import org.example.api.exceptions.BadRequestException;
+
+public class CsvReader {
+
+  private static final int NOTHING_PUSHED_BACK = -2;
+
+  private final Reader reader;
+
+  private int pushedBack = NOTHING_PUSHED_BACK;
+
+  public CsvReader(Reader reader) {
+    this.reader = reader;
+  }
+
+  public List<String> readRecord() throws IOException {
+
+    int c = read();
+    if (c == -1) {
+      return null;
+    }
+
+    List<String> record = new ArrayList<>();
+    StringBuilder field = new StringBuilder();
+    boolean quoted = false;
+
+    while (true) {
+
+      if (quoted) {
+
+        if (c == -1) {
+          throw new BadRequestException("CSV contains an unterminated quoted field.");
+        }
+
+        if (c == '"') {
+
+          int next = read();
+          if (next != '"') {
+            quoted = false;
+            c = next;
+            continue;
+          }
+        }
+
+        field.append((char) c);
+      } else if (c == '"' && field.length() == 0) {
+        quoted = true;
+      } else if (c == ',') {
+        record.add(field.toString());
+        field.setLength(0);
+      } else if (c == '\n' || c == '\r' || c == -1) {
+
+        if (c == '\r') {
+          int next = read();
+          if (next != '\n') {
+            pushedBack = next;
+          }
+        }
+
+        record.add(field.toString());
+        return record;
+      } else {
+        field.append((char) c);
+      }
+
+      c = read();
+    }
+  }
+
+  private int read() throws IOException {
+
+    if (pushedBack != NOTHING_PUSHED_BACK) {
+      int c = pushedBack;
+      pushedBack = NOTHING_PUSHED_BACK;
+      return c;
+    }
+
+    return reader.read();
+  }
+}
@@ -0,0 +1,313 @@
+package org.example.api.controllers.helpers;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import java.io.UncheckedIOException;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.function.Supplier;
+import lombok.extern.log4j.Log4j2;
+import org.example.api.exceptions.BadRequestException;
+import org.example.api.exceptions.ConflictException;
+import org.example.store.entities.IdempotencyKeyEntity;
+import org.example.store.repositories.IdempotencyKeyRepository;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * Runs a create at most once per Idempotency-Key and replays its response to retries. Responses
+ * are kept in memory for the TTL, bounded by max entries, oldest evicted first. With the
+ * persistent store on they also go to idempotency_key, in the same transaction as the create, so
+ * retries landing on another instance are answered too.
+ */
+@Log4j2
+@Component
+public class IdempotencyHelper {
+
+  public static final String IDEMPOTENCY_KEY_HEADER = "Idempotency-Key";
+
+  private static final int MAX_KEY_LENGTH = 255;
+
+  private final Map<String, Entry> entries = new ConcurrentHashMap<>();
+
+  // Every entry has the same TTL, so insertion order is also expiry order
+  private final Queue<Entry> insertionOrder = new ConcurrentLinkedQueue<>();
+
+  private final IdempotencyKeyRepository idempotencyKeyRepository;
+
+  private final ObjectMapper objectMapper;
+
+  private final OptimisticRetryHelper optimisticRetryHelper;
+
+  private final TransactionTemplate newTransactionTemplate;
+
+  private final Duration ttl;
+
+  private final int maxEntries;
+
+  private final boolean persistent;
+
+  public IdempotencyHelper(
+      IdempotencyKeyRepository idempotencyKeyRepository,
+      ObjectMapper objectMapper,
+      OptimisticRetryHelper optimisticRetryHelper,
+      PlatformTransactionManager transactionManager,
+      @Value("${task-tracker.idempotency.ttl:PT24H}") Duration ttl,
+      @Value("${task-tracker.idempotency.max-entries:100000}") int maxEntries,
+      @Value("${task-tracker.idempotency.persistent:false}") boolean persistent) {
+
+    this.idempotencyKeyRepository = idempotencyKeyRepository;
+    this.objectMapper = objectMapper;
+    this.optimisticRetryHelper = optimisticRetryHelper;
+    this.newTransactionTemplate = new TransactionTemplate(transactionManager);
+    this.newTransactionTemplate.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+    this.ttl = ttl;
+    this.maxEntries = maxEntries;
+    this.persistent = persistent;
+  }
+
+  /**
+   * Runs the action in a transaction, retried on optimistic conflicts, unless the key was already
+   * used; a replay opens no transaction of its own when the response is in memory. The fingerprint
+   * describes the request, so a key reused for a different one is rejected rather than answered
+   * with an unrelated response.
+   */
+  public <T> T execute(
+      String operation,
+      Optional<String> optionalKey,
+      String fingerprint,
+      Class<T> responseType,
+      Supplier<T> action) {
+
+    Optional<String> optionalNonEmptyKey = optionalKey
+        .map(String::trim)
+        .filter(key -> !key.isEmpty());
+
+    if (optionalNonEmptyKey.isEmpty()) {
+      return optimisticRetryHelper.executeWithRetry(action);
+    }
+
+    String key = optionalNonEmptyKey.get();
+
+    if (key.length() > MAX_KEY_LENGTH) {
+      throw new BadRequestException(String.format(
+          "%s can't be longer than %d characters", IDEMPOTENCY_KEY_HEADER, MAX_KEY_LENGTH));
+    }
+
+    String id = operation + " " + key;
+
+    long now = System.currentTimeMillis();
+
+    Entry marker = new Entry(id, fingerprint, now + ttl.toMillis());
+
+    Entry existing = claim(marker, now);
+    if (existing != null) {
+      return replay(existing, fingerprint, responseType);
+    }
+
+    if (persistent) {
+
+      Optional<T> persistedResponse = claimPersistent(marker, responseType, now);
+
+      if (persistedResponse.isPresent()) {
+        marker.complete(persistedResponse.get());
+        return persistedResponse.get();
+      }
+    }
+
+    T response;
+    try {
+      response = optimisticRetryHelper.executeWithRetry(() -> {
+
+        T createdResponse = action.get();
+
+        if (persistent) {
+          completePersistent(id, createdResponse);
+        }
+
+        return createdResponse;
+      });
+    } catch (RuntimeException ex) {
+      forget(marker);
+      throw ex;
+    }
+
+    // Retries only see the response once it is committed
+    AfterCommit.run(() -> marker.complete(response), () -> forget(marker));
+
+    return response;
+  }
+
+  @Scheduled(
+      initialDelayString = "${task-tracker.idempotency.cleanup-interval:PT1H}",
+      fixedDelayString = "${task-tracker.idempotency.cleanup-interval:PT1H}"
+  )
+  public void deleteExpired() {
+
+    evict(System.currentTimeMillis());
+
+    if (persistent) {
+
+      Instant cutoff = Instant.now().minus(ttl);
+
+      int deleted = newTransactionTemplate.execute(status ->
+          idempotencyKeyRepository.deleteCreatedBefore(cutoff));
+
+      log.info("Idempotency keys expired: {}", deleted);
+    }
+  }
+
+  private Entry claim(Entry marker, long now) {
+
+    Entry[] existing = new Entry[1];
+
+    entries.compute(marker.id, (id, current) -> {
+
+      if (current != null && !current.isExpired(now)) {
+        existing[0] = current;
+        return current;
+      }
+
+      return marker;
+    });
+
+    if (existing[0] == null) {
+      insertionOrder.add(marker);
+      evict(now);
+    }
+
+    return existing[0];
+  }
+
+  private <T> Optional<T> claimPersistent(Entry marker, Class<T> responseType, long now) {
+
+    try {
+      int claimed = newTransactionTemplate.execute(status -> idempotencyKeyRepository.claim(
+          marker.id,
+          marker.fingerprint,
+          Instant.ofEpochMilli(now),
+          Instant.ofEpochMilli(now).minus(ttl)));
+
+      if (claimed > 0) {
+        return Optional.empty();
+      }
+
+      IdempotencyKeyEntity row = newTransactionTemplate
+          .execute(status -> idempotencyKeyRepository.findById(marker.id))
+          .orElseThrow(IdempotencyHelper::makeInProgressException);
+
+      if (!row.getFingerprint().equals(marker.fingerprint)) {
+        throw makeReusedKeyException();
+      }
+
+      if (row.getResponse() == null) {
+        throw makeInProgressException();
+      }
+
+      return Optional.of(objectMapper.readValue(row.getResponse(), responseType));
+    } catch (JsonProcessingException ex) {
+      entries.remove(marker.id, marker);
+      throw new UncheckedIOException(ex);
+    } catch (RuntimeException ex) {
+      entries.remove(marker.id, marker);
+      throw ex;
+    }
+  }
+
+  // Same transaction as the create, so a crash can't commit one without the other
+  private void completePersistent(String id, Object response) {
+
+    String serializedResponse;
+    try {
+      serializedResponse = objectMapper.writeValueAsString(response);
+    } catch (JsonProcessingException ex) {
+      throw new UncheckedIOException(ex);
+    }
+
+    idempotencyKeyRepository.complete(id, serializedResponse);
+  }
+
+  private void forget(Entry marker) {
+
+    entries.remove(marker.id, marker);
+
+    if (persistent) {
+      newTransactionTemplate.execute(status -> idempotencyKeyRepository.deleteInFlight(marker.id));
+    }
+  }
+
+  private static <T> T replay(Entry entry, String fingerprint, Class<T> responseType) {
+
+    if (!entry.fingerprint.equals(fingerprint)) {
+      throw makeReusedKeyException();
+    }
+
+    Object response = entry.response;
+    if (response == null) {
+      throw makeInProgressException();
+    }
+
+    return responseType.cast(response);
+  }
+
+  private static BadRequestException makeReusedKeyException() {
+    return new BadRequestException(String.format(
+        "%s was already used for a different request", IDEMPOTENCY_KEY_HEADER));
+  }
+
+  private static ConflictException makeInProgressException() {
+    return new ConflictException(String.format(
+        "A request with this %s is still in progress", IDEMPOTENCY_KEY_HEADER));
+  }
+
+  private void evict(long now) {
+    while (true) {
+
+      Entry oldest = insertionOrder.peek();
+
+      if (oldest == null || (!oldest.isExpired(now) && entries.size() <= maxEntries)) {
+        return;
+      }
+
+      Entry polled = insertionOrder.poll();
+      if (polled != null) {
+        entries.remove(polled.id, polled);
+      }
+    }
+  }
+
+  private static class Entry {
+
+    final String id;
+
+    final String fingerprint;
+
+    final long expiresAt;
+
+    // Null while the request is in flight
+    volatile Object response;
+
+    Entry(String id, String fingerprint, long expiresAt) {
+      this.id = id;
+      this.fingerprint = fingerprint;
+      this.expiresAt = expiresAt;
+    }
+
+    void complete(Object response) {
+      this.response = response;
+    }
+
+    boolean isExpired(long now) {
+      return now >= expiresAt;
+    }
+  }
+}
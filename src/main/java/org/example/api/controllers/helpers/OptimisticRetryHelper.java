@@ -0,0 +1,50 @@
+package org.example.api.controllers.helpers;
+
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.function.Supplier;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.log4j.Log4j2;
+import org.example.api.exceptions.ConflictException;
+import org.springframework.dao.OptimisticLockingFailureException;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+@Log4j2
+@RequiredArgsConstructor
+@Component
+public class OptimisticRetryHelper {
+
+  public static final int MAX_ATTEMPTS = 5;
+
+  public static final int MAX_BACKOFF_MILLIS = 20;
+
+  private final TransactionTemplate transactionTemplate;
+
+  public <T> T executeWithRetry(Supplier<T> action) {
+
+    for (int attempt = 1; ; attempt++) {
+
+      try {
+        return transactionTemplate.execute(status -> action.get());
+      } catch (OptimisticLockingFailureException ex) {
+
+        if (attempt >= MAX_ATTEMPTS) {
+          throw new ConflictException("Board was changed concurrently, please retry.");
+        }
+
+        log.debug("Optimistic lock conflict on attempt {}, retrying", attempt, ex);
+
+        backOff(attempt);
+      }
+    }
+  }
+
+  private static void backOff(int attempt) {
+    try {
+      Thread.sleep(ThreadLocalRandom.current().nextInt(1, MAX_BACKOFF_MILLIS * attempt + 1));
+    } catch (InterruptedException ex) {
+      Thread.currentThread().interrupt();
+      throw new ConflictException("Board was changed concurrently, please retry.");
+    }
+  }
+}
@@ -0,0 +1,72 @@
+package org.example.api.controllers.helpers;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+import java.util.Comparator;
+import java.util.Locale;
+import lombok.Value;
+import org.example.api.dto.ProjectDto;
+import org.example.api.exceptions.BadRequestException;
+
+@Value
+public class ProjectCursor {
+
+  public static final ProjectCursor START = new ProjectCursor(0L, "");
+
+  /**
+   * Code point order, the order of {@code collate "C"} on UTF-8. Every path that pages by name
+   * sorts this way, so a cursor handed out by one of them is valid for the others.
+   */
+  public static final Comparator<String> NAME_ORDER = ProjectCursor::compareCodePoints;
+
+  private static final char SEPARATOR = ':';
+
+  Long id;
+
+  String name;
+
+  public static ProjectCursor of(ProjectDto project) {
+    return new ProjectCursor(project.getId(), project.getName().toLowerCase(Locale.ROOT));
+  }
+
+  public static ProjectCursor decode(String cursor) {
+    try {
+      String decoded = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+      int separatorIndex = decoded.indexOf(SEPARATOR);
+
+      return new ProjectCursor(
+          Long.parseLong(decoded.substring(0, separatorIndex)),
+          decoded.substring(separatorIndex + 1)
+      );
+    } catch (IllegalArgumentException | IndexOutOfBoundsException ex) {
+      throw new BadRequestException(String.format("Cursor \"%s\" is invalid", cursor));
+    }
+  }
+
+  public String encode() {
+    return Base64.getUrlEncoder()
+        .withoutPadding()
+        .encodeToString((id + String.valueOf(SEPARATOR) + name).getBytes(StandardCharsets.UTF_8));
+  }
+
+  private static int compareCodePoints(String left, String right) {
+
+    int leftIndex = 0;
+    int rightIndex = 0;
+
+    while (leftIndex < left.length() && rightIndex < right.length()) {
+
+      int leftCodePoint = left.codePointAt(leftIndex);
+      int rightCodePoint = right.codePointAt(rightIndex);
+
+      if (leftCodePoint != rightCodePoint) {
+        return Integer.compare(leftCodePoint, rightCodePoint);
+      }
+
+      leftIndex += Character.charCount(leftCodePoint);
+      rightIndex += Character.charCount(rightCodePoint);
+    }
+
+    return Integer.compare(left.length() - leftIndex, right.length() - rightIndex);
+  }
+}
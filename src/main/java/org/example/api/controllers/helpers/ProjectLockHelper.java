@@ -0,0 +1,69 @@
+package org.example.api.controllers.helpers;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.ReentrantLock;
+import org.example.api.exceptions.ConflictException;
+import org.example.store.entities.ProjectEntity;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+@Component
+public class ProjectLockHelper {
+
+  public static final long LOCK_TIMEOUT_MILLIS = 5_000;
+
+  private final Map<Long, ProjectLock> locks = new ConcurrentHashMap<>();
+
+  /**
+   * Serializes board reordering within one project until the current transaction completes.
+   * Writers on other nodes are fenced by the version of each task state they change.
+   */
+  public void lockUntilCompletion(ProjectEntity project) {
+
+    Long projectId = project.getId();
+
+    ProjectLock projectLock = locks.compute(projectId, (id, existingLock) -> {
+
+      ProjectLock lock = existingLock != null ? existingLock : new ProjectLock();
+      lock.holders++;
+
+      return lock;
+    });
+
+    boolean locked;
+    try {
+      locked = projectLock.lock.tryLock(LOCK_TIMEOUT_MILLIS, TimeUnit.MILLISECONDS);
+    } catch (InterruptedException ex) {
+      Thread.currentThread().interrupt();
+      locked = false;
+    }
+
+    if (!locked) {
+      release(projectId);
+      throw new ConflictException(
+          String.format("Project with \"%s\" id is busy, please retry.", projectId));
+    }
+
+    TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+      @Override
+      public void afterCompletion(int status) {
+        projectLock.lock.unlock();
+        release(projectId);
+      }
+    });
+  }
+
+  private void release(Long projectId) {
+    locks.computeIfPresent(projectId, (id, lock) -> --lock.holders == 0 ? null : lock);
+  }
+
+  private static class ProjectLock {
+
+    private final ReentrantLock lock = new ReentrantLock();
+
+    private int holders;
+  }
+}
@@ -0,0 +1,204 @@
+package org.example.api.controllers.helpers;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentSkipListMap;
+import java.util.function.Consumer;
+import java.util.stream.Stream;
+import javax.persistence.EntityManager;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.log4j.Log4j2;
+import org.example.api.dto.ProjectDto;
+import org.example.api.factories.ProjectDtoFactory;
+import org.example.store.entities.ProjectEntity;
+import org.example.store.repositories.ProjectRepository;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+@Log4j2
+@RequiredArgsConstructor
+@Component
+public class ProjectNameIndex {
+
+  private static final Comparator<ProjectCursor> KEY_ORDER = Comparator
+      .comparing(ProjectCursor::getName, ProjectCursor.NAME_ORDER)
+      .thenComparing(ProjectCursor::getId);
+
+  private final ProjectRepository projectRepository;
+
+  private final ProjectDtoFactory projectDtoFactory;
+
+  private final EntityManager entityManager;
+
+  private final PlatformTransactionManager transactionManager;
+
+  private final Object lock = new Object();
+
+  private volatile Entries entries = new Entries();
+
+  // Local changes made while a refresh is loading, replayed onto the loaded entries. Guarded by lock
+  private List<Consumer<Entries>> changesDuringRefresh;
+
+  private volatile boolean ready;
+
+  public boolean isReady() {
+    return ready;
+  }
+
+  public List<ProjectDto> findByPrefix(String prefixName, ProjectCursor cursor, int limit) {
+
+    String foldedPrefixName = prefixName.toLowerCase(Locale.ROOT);
+
+    ProjectCursor from = ProjectCursor.NAME_ORDER.compare(cursor.getName(), foldedPrefixName) < 0
+        ? new ProjectCursor(Long.MIN_VALUE, foldedPrefixName)
+        : cursor;
+
+    List<ProjectDto> projects = new ArrayList<>(Math.min(limit, 64));
+
+    for (Map.Entry<ProjectCursor, ProjectDto> entry
+        : entries.projectsByName.tailMap(from, false).entrySet()) {
+
+      if (projects.size() >= limit || !entry.getKey().getName().startsWith(foldedPrefixName)) {
+        break;
+      }
+
+      projects.add(entry.getValue());
+    }
+
+    return projects;
+  }
+
+  public Stream<ProjectDto> streamByPrefix(String prefixName) {
+
+    String foldedPrefixName = prefixName.toLowerCase(Locale.ROOT);
+
+    return entries.projectsByName
+        .tailMap(new ProjectCursor(Long.MIN_VALUE, foldedPrefixName), false)
+        .entrySet()
+        .stream()
+        .takeWhile(entry -> entry.getKey().getName().startsWith(foldedPrefixName))
+        .map(Map.Entry::getValue);
+  }
+
+  public void putAfterCommit(ProjectEntity project) {
+
+    ProjectDto projectDto = projectDtoFactory.makeProjectDto(project);
+
+    AfterCommit.run(() -> put(projectDto));
+  }
+
+  public void removeAfterCommit(Long projectId) {
+    AfterCommit.run(() -> remove(projectId));
+  }
+
+  @EventListener(ApplicationReadyEvent.class)
+  public void rebuild() {
+
+    refresh();
+
+    ready = true;
+
+    log.info("Project name index is built with {} projects", entries.keysById.size());
+  }
+
+  /**
+   * Every instance keeps its own index and only hears about its own writes, so the whole index is
+   * reloaded periodically to pick up projects created, renamed or deleted through other instances.
+   */
+  @Scheduled(
+      initialDelayString = "${task-tracker.project-name-index.refresh-interval:PT1M}",
+      fixedDelayString = "${task-tracker.project-name-index.refresh-interval:PT1M}"
+  )
+  public synchronized void refresh() {
+
+    synchronized (lock) {
+      changesDuringRefresh = new ArrayList<>();
+    }
+
+    try {
+      Entries loadedEntries = new Entries();
+
+      TransactionTemplate transactionTemplate = new TransactionTemplate(transactionManager);
+      transactionTemplate.setReadOnly(true);
+
+      transactionTemplate.executeWithoutResult(status -> {
+        try (Stream<ProjectEntity> projectStream = projectRepository.streamAllBy()) {
+          projectStream.forEach(project -> {
+
+            loadedEntries.put(projectDtoFactory.makeProjectDto(project));
+
+            entityManager.detach(project);
+          });
+        }
+      });
+
+      synchronized (lock) {
+
+        changesDuringRefresh.forEach(change -> change.accept(loadedEntries));
+
+        entries = loadedEntries;
+      }
+    } finally {
+      synchronized (lock) {
+        changesDuringRefresh = null;
+      }
+    }
+  }
+
+  private void put(ProjectDto projectDto) {
+    apply(currentEntries -> currentEntries.put(projectDto));
+  }
+
+  private void remove(Long projectId) {
+    apply(currentEntries -> currentEntries.remove(projectId));
+  }
+
+  private void apply(Consumer<Entries> change) {
+    synchronized (lock) {
+
+      change.accept(entries);
+
+      if (changesDuringRefresh != null) {
+        changesDuringRefresh.add(change);
+      }
+    }
+  }
+
+  private static class Entries {
+
+    final ConcurrentSkipListMap<ProjectCursor, ProjectDto> projectsByName =
+        new ConcurrentSkipListMap<>(KEY_ORDER);
+
+    final Map<Long, ProjectCursor> keysById = new ConcurrentHashMap<>();
+
+    void put(ProjectDto projectDto) {
+
+      ProjectCursor key = ProjectCursor.of(projectDto);
+
+      ProjectCursor oldKey = keysById.put(projectDto.getId(), key);
+
+      if (oldKey != null) {
+        projectsByName.remove(oldKey);
+      }
+
+      projectsByName.put(key, projectDto);
+    }
+
+    void remove(Long projectId) {
+
+      ProjectCursor oldKey = keysById.remove(projectId);
+
+      if (oldKey != null) {
+        projectsByName.remove(oldKey);
+      }
+    }
+  }
+}
@@ -0,0 +1,153 @@
+package org.example.api.controllers.helpers;
+
+import java.util.function.IntSupplier;
+import javax.transaction.Transactional;
+import lombok.extern.log4j.Log4j2;
+import org.example.api.dto.DeletionStatusDto;
+import org.example.store.entities.ProjectEntity;
+import org.example.store.entities.TaskStateEntity;
+import org.example.store.repositories.ProjectRepository;
+import org.example.store.repositories.TaskRepository;
+import org.example.store.repositories.TaskStateRepository;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * Deleting a project or task state only marks its row, which hides it from every read. The
+ * children are removed afterwards in bounded batches, each in its own transaction, and the marked
+ * row goes last.
+ */
+@Log4j2
+@Component
+public class ProjectPurger {
+
+  private static final int MAX_PURGES_PER_RUN = 100;
+
+  private final ProjectRepository projectRepository;
+
+  private final TaskStateRepository taskStateRepository;
+
+  private final TaskRepository taskRepository;
+
+  private final TransactionTemplate transactionTemplate;
+
+  private final int batchSize;
+
+  public ProjectPurger(
+      ProjectRepository projectRepository,
+      TaskStateRepository taskStateRepository,
+      TaskRepository taskRepository,
+      PlatformTransactionManager transactionManager,
+      @Value("${task-tracker.purge.batch-size:5000}") int batchSize) {
+
+    this.projectRepository = projectRepository;
+    this.taskStateRepository = taskStateRepository;
+    this.taskRepository = taskRepository;
+    this.transactionTemplate = new TransactionTemplate(transactionManager);
+    this.batchSize = batchSize;
+  }
+
+  @Transactional(Transactional.TxType.MANDATORY)
+  public void markDeleted(ProjectEntity project) {
+
+    project.setDeleted(true);
+
+    taskStateRepository.markDeletedByProjectId(project.getId());
+  }
+
+  @Transactional(Transactional.TxType.MANDATORY)
+  public void markDeleted(TaskStateEntity taskState) {
+    taskState.setDeleted(true);
+  }
+
+  public DeletionStatusDto getProjectDeletionStatus(Long projectId) {
+    return projectRepository
+        .findDeletedById(projectId)
+        .map(deleted -> deleted
+            ? makePurgingStatus(taskRepository.countAllByProjectId(projectId))
+            : makeStatus(DeletionStatusDto.Status.ACTIVE))
+        .orElseGet(() -> makeStatus(DeletionStatusDto.Status.PURGED));
+  }
+
+  public DeletionStatusDto getTaskStateDeletionStatus(Long taskStateId) {
+    return taskStateRepository
+        .findDeletedById(taskStateId)
+        .map(deleted -> deleted
+            ? makePurgingStatus(taskRepository.countByTaskStateId(taskStateId))
+            : makeStatus(DeletionStatusDto.Status.ACTIVE))
+        .orElseGet(() -> makeStatus(DeletionStatusDto.Status.PURGED));
+  }
+
+  @Scheduled(
+      initialDelayString = "${task-tracker.purge.interval:PT10S}",
+      fixedDelayString = "${task-tracker.purge.interval:PT10S}"
+  )
+  public void purge() {
+
+    long tasks = 0;
+    int taskStates = 0;
+    int projects = 0;
+
+    for (Long taskStateId : taskStateRepository.findDeletedIds(MAX_PURGES_PER_RUN)) {
+
+      tasks += deleteInBatches(() -> taskRepository.deleteBatchByTaskStateId(taskStateId, batchSize));
+
+      taskStates += transactionTemplate.execute(status ->
+          taskStateRepository.deletePurgedById(taskStateId));
+    }
+
+    for (Long projectId : projectRepository.findDeletedIds(MAX_PURGES_PER_RUN)) {
+
+      // Also catches task states created while the project was being marked
+      transactionTemplate.executeWithoutResult(status ->
+          taskStateRepository.markDeletedByProjectId(projectId));
+
+      if (taskStateRepository.countAllByProjectId(projectId) > 0) {
+        continue;
+      }
+
+      deleteInBatches(() -> taskRepository.deleteArchivedBatchByProjectId(projectId, batchSize));
+
+      projects += transactionTemplate.execute(status ->
+          projectRepository.deletePurgedById(projectId));
+    }
+
+    if (tasks > 0 || taskStates > 0 || projects > 0) {
+      log.info(
+          "Purged {} projects, {} task states and {} tasks",
+          projects,
+          taskStates,
+          tasks
+      );
+    }
+  }
+
+  private long deleteInBatches(IntSupplier batchDelete) {
+
+    long total = 0;
+
+    int deleted;
+    do {
+      deleted = transactionTemplate.execute(status -> batchDelete.getAsInt());
+      total += deleted;
+    } while (deleted >= batchSize);
+
+    return total;
+  }
+
+  private static DeletionStatusDto makePurgingStatus(long remainingTasks) {
+    return DeletionStatusDto.builder()
+        .status(DeletionStatusDto.Status.PURGING)
+        .remainingTasks(remainingTasks)
+        .build();
+  }
+
+  private static DeletionStatusDto makeStatus(DeletionStatusDto.Status status) {
+    return DeletionStatusDto.builder()
+        .status(status)
+        .build();
+  }
+}
@@ -0,0 +1,92 @@
+package org.example.api.controllers.helpers;
+
+import java.io.IOException;
+import javax.servlet.FilterChain;
+import javax.servlet.ServletException;
+import javax.servlet.http.Cookie;
+import javax.servlet.http.HttpServletRequest;
+import javax.servlet.http.HttpServletResponse;
+import lombok.RequiredArgsConstructor;
+import org.example.store.datasource.ReadRouting;
+import org.example.store.datasource.ReadRoutingProperties;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.http.HttpMethod;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+/**
+ * Pins a client to the primary for a while after each of its writes, so its following reads don't
+ * land on a replica that hasn't replayed the write yet. Only registered when replicas are.
+ */
+@RequiredArgsConstructor
+@ConditionalOnProperty("task-tracker.datasource.replicas[0].url")
+@Component
+public class ReadYourWritesFilter extends OncePerRequestFilter {
+
+  public static final String READ_PRIMARY_UNTIL_COOKIE = "read_primary_until";
+
+  private final ReadRoutingProperties readRoutingProperties;
+
+  @Override
+  protected void doFilterInternal(
+      HttpServletRequest request,
+      HttpServletResponse response,
+      FilterChain filterChain) throws ServletException, IOException {
+
+    long now = System.currentTimeMillis();
+
+    if (isWrite(request)) {
+      ReadRouting.forcePrimary();
+      response.addCookie(makeCookie(now));
+    } else if (getReadPrimaryUntil(request) > now) {
+      ReadRouting.forcePrimary();
+    }
+
+    try {
+      filterChain.doFilter(request, response);
+    } finally {
+      ReadRouting.clear();
+    }
+  }
+
+  private Cookie makeCookie(long now) {
+
+    long window = readRoutingProperties.getReadYourWritesWindow().toMillis();
+
+    Cookie cookie = new Cookie(READ_PRIMARY_UNTIL_COOKIE, Long.toString(now + window));
+    cookie.setPath("/");
+    cookie.setHttpOnly(true);
+    cookie.setMaxAge((int) Math.max(1, window / 1000));
+
+    return cookie;
+  }
+
+  private static boolean isWrite(HttpServletRequest request) {
+
+    String method = request.getMethod();
+
+    return !HttpMethod.GET.matches(method)
+        && !HttpMethod.HEAD.matches(method)
+        && !HttpMethod.OPTIONS.matches(method);
+  }
+
+  private static long getReadPrimaryUntil(HttpServletRequest request) {
+
+    Cookie[] cookies = request.getCookies();
+    if (cookies == null) {
+      return 0;
+    }
+
+    for (Cookie cookie : cookies) {
+      if (READ_PRIMARY_UNTIL_COOKIE.equals(cookie.getName())) {
+        try {
+          return Long.parseLong(cookie.getValue());
+        } catch (NumberFormatException ex) {
+          return 0;
+        }
+      }
+    }
+
+    return 0;
+  }
+}
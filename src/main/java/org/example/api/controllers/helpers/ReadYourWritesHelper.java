@@ -0,0 +1,37 @@
+package org.example.api.controllers.helpers;
+
+import lombok.RequiredArgsConstructor;
+import org.example.store.datasource.ReadRouting;
+import org.example.store.datasource.ReadRoutingProperties;
+import org.springframework.stereotype.Component;
+
+/**
+ * Keeps reads of recently changed resources on the primary. A replica that hasn't caught up yet
+ * would otherwise serve a stale body under the new ETag, and clients would cache it.
+ */
+@RequiredArgsConstructor
+@Component
+public class ReadYourWritesHelper {
+
+  private final ChangeVersionHelper changeVersionHelper;
+
+  private final ReadRoutingProperties readRoutingProperties;
+
+  public void readProjectListFromPrimaryIfRecentlyChanged() {
+    if (isWithinWindow(changeVersionHelper.getProjectListChangedAt())) {
+      ReadRouting.forcePrimary();
+    }
+  }
+
+  public void readBoardFromPrimaryIfRecentlyChanged(Long projectId) {
+    if (isWithinWindow(changeVersionHelper.getBoardChangedAt(projectId))) {
+      ReadRouting.forcePrimary();
+    }
+  }
+
+  private boolean isWithinWindow(long changedAt) {
+    return !readRoutingProperties.getReplicas().isEmpty()
+        && System.currentTimeMillis() - changedAt
+        < readRoutingProperties.getReadYourWritesWindow().toMillis();
+  }
+}
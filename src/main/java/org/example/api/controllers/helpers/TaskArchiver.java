@@ -0,0 +1,120 @@
+package org.example.api.controllers.helpers;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Supplier;
+import java.util.stream.Collectors;
+import lombok.extern.log4j.Log4j2;
+import org.example.api.controllers.helpers.ChangeLogHelper.Change;
+import org.example.store.entities.ChangeLogEntity.EntityType;
+import org.example.store.repositories.TaskRepository;
+import org.example.store.repositories.TaskRepository.ArchivedTaskRef;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * Moves old tasks, and sooner those in done task states, out of the task table into task_archive.
+ * Each batch is its own transaction and shows up on the boards as task deletions.
+ */
+@Log4j2
+@ConditionalOnProperty(name = "task-tracker.archive.enabled", havingValue = "true")
+@Component
+public class TaskArchiver {
+
+  private final TaskRepository taskRepository;
+
+  private final BoardEventPublisher boardEventPublisher;
+
+  private final ChangeLogHelper changeLogHelper;
+
+  private final TransactionTemplate transactionTemplate;
+
+  private final Duration maxAge;
+
+  private final Set<String> doneTaskStates;
+
+  private final Duration doneMaxAge;
+
+  private final int batchSize;
+
+  public TaskArchiver(
+      TaskRepository taskRepository,
+      BoardEventPublisher boardEventPublisher,
+      ChangeLogHelper changeLogHelper,
+      PlatformTransactionManager transactionManager,
+      @Value("${task-tracker.archive.max-age:P180D}") Duration maxAge,
+      @Value("${task-tracker.archive.done-task-states:}") List<String> doneTaskStates,
+      @Value("${task-tracker.archive.done-max-age:P14D}") Duration doneMaxAge,
+      @Value("${task-tracker.archive.batch-size:1000}") int batchSize) {
+
+    this.taskRepository = taskRepository;
+    this.boardEventPublisher = boardEventPublisher;
+    this.changeLogHelper = changeLogHelper;
+    this.transactionTemplate = new TransactionTemplate(transactionManager);
+    this.maxAge = maxAge;
+    this.doneTaskStates = doneTaskStates
+        .stream()
+        .map(String::trim)
+        .filter(name -> !name.isEmpty())
+        .map(name -> name.toLowerCase(Locale.ROOT))
+        .collect(Collectors.toSet());
+    this.doneMaxAge = doneMaxAge;
+    this.batchSize = batchSize;
+  }
+
+  @Scheduled(
+      initialDelayString = "${task-tracker.archive.interval:PT1H}",
+      fixedDelayString = "${task-tracker.archive.interval:PT1H}"
+  )
+  public void archive() {
+
+    Instant now = Instant.now();
+
+    long archived = archiveInBatches(
+        () -> taskRepository.archiveCreatedBefore(now.minus(maxAge), batchSize));
+
+    if (!doneTaskStates.isEmpty()) {
+      archived += archiveInBatches(() -> taskRepository.archiveInTaskStatesCreatedBefore(
+          doneTaskStates, now.minus(doneMaxAge), batchSize));
+    }
+
+    log.info("Tasks archived: {}", archived);
+  }
+
+  private long archiveInBatches(Supplier<List<ArchivedTaskRef>> batchArchive) {
+
+    long total = 0;
+
+    int archived;
+    do {
+      archived = transactionTemplate.execute(status -> {
+
+        List<ArchivedTaskRef> batch = batchArchive.get();
+
+        Map<Long, List<Change>> changesByProject = batch
+            .stream()
+            .collect(Collectors.groupingBy(
+                ArchivedTaskRef::getProjectId,
+                Collectors.mapping(
+                    task -> Change.deleted(EntityType.TASK, task.getId()),
+                    Collectors.toList())));
+
+        changesByProject.forEach((projectId, changes) -> boardEventPublisher
+            .publishBoardChangedAfterCommit(projectId, changeLogHelper.record(projectId, changes)));
+
+        return batch.size();
+      });
+      total += archived;
+    } while (archived >= batchSize);
+
+    return total;
+  }
+}
@@ -0,0 +1,126 @@
+package org.example.api.controllers.helpers;
+
+import java.util.List;
+import java.util.Optional;
+import javax.transaction.Transactional;
+import lombok.RequiredArgsConstructor;
+import org.example.store.entities.TaskStateEntity;
+import org.example.store.repositories.TaskStateRepository;
+import org.springframework.stereotype.Component;
+
+@RequiredArgsConstructor
+@Component
+@Transactional
+public class TaskStateRankHelper {
+
+  public static final long RANK_STEP = 1L << 20;
+
+  private final TaskStateRepository taskStateRepository;
+
+  public Long nextRank(Long projectId) {
+    return taskStateRepository
+        .findFirstByProjectIdOrderByRankDesc(projectId)
+        .map(lastTaskState -> lastTaskState.getRank() + RANK_STEP)
+        .orElse(RANK_STEP);
+  }
+
+  public Optional<TaskStateEntity> findLeftTaskState(TaskStateEntity taskState) {
+    return taskStateRepository.findFirstByProjectIdAndRankLessThanOrderByRankDesc(
+        taskState.getProject().getId(),
+        taskState.getRank()
+    );
+  }
+
+  public Optional<TaskStateEntity> findRightTaskState(TaskStateEntity taskState) {
+    return taskStateRepository.findFirstByProjectIdAndRankGreaterThanOrderByRankAsc(
+        taskState.getProject().getId(),
+        taskState.getRank()
+    );
+  }
+
+  /**
+   * Rebalancing renumbers ranks in the database only, task states already loaded keep their old
+   * rank. Callers must assign the returned rank to the moved task state and not rely on the ranks
+   * of the others afterwards.
+   */
+  public Long rankBetween(
+      Long projectId,
+      Optional<TaskStateEntity> optionalLeftTaskState,
+      Optional<TaskStateEntity> optionalRightTaskState) {
+
+    Optional<Long> optionalRank = findRankBetween(
+        optionalLeftTaskState.map(TaskStateEntity::getRank).orElse(null),
+        optionalRightTaskState.map(TaskStateEntity::getRank).orElse(null)
+    );
+
+    if (optionalRank.isPresent()) {
+      return optionalRank.get();
+    }
+
+    Long leftTaskStateId = optionalLeftTaskState.get().getId();
+    Long rightTaskStateId = optionalRightTaskState.get().getId();
+
+    taskStateRepository.rebalanceRanks(projectId, RANK_STEP);
+
+    return findRankBetween(
+        taskStateRepository.findRankById(leftTaskStateId),
+        taskStateRepository.findRankById(rightTaskStateId)
+    ).orElseThrow(() -> new IllegalStateException(
+        String.format("Ranks of project \"%s\" are not spread after rebalancing", projectId)));
+  }
+
+  /**
+   * Moves a task state within an in-memory board ordered by rank, right after {@code
+   * leftTaskState} or to the head when it is {@code null}. Only the moved task state is re-ranked
+   * unless its gap is exhausted, in which case the whole board is renumbered in memory.
+   */
+  public static void moveWithinBoard(
+      List<TaskStateEntity> board,
+      TaskStateEntity taskState,
+      TaskStateEntity leftTaskState) {
+
+    int oldIndex = board.indexOf(taskState);
+    int oldLeftIndex = leftTaskState == null ? -1 : board.indexOf(leftTaskState);
+
+    if (oldLeftIndex == oldIndex - 1) {
+      return;
+    }
+
+    board.remove(oldIndex);
+
+    int newIndex = leftTaskState == null ? 0 : board.indexOf(leftTaskState) + 1;
+
+    board.add(newIndex, taskState);
+
+    Long leftRank = newIndex > 0 ? board.get(newIndex - 1).getRank() : null;
+    Long rightRank = newIndex < board.size() - 1 ? board.get(newIndex + 1).getRank() : null;
+
+    Optional<Long> optionalRank = findRankBetween(leftRank, rightRank);
+
+    if (optionalRank.isPresent()) {
+      taskState.setRank(optionalRank.get());
+      return;
+    }
+
+    for (int i = 0; i < board.size(); i++) {
+      board.get(i).setRank((i + 1) * RANK_STEP);
+    }
+  }
+
+  private static Optional<Long> findRankBetween(Long leftRank, Long rightRank) {
+
+    if (leftRank == null) {
+      return Optional.of(rightRank == null ? RANK_STEP : rightRank - RANK_STEP);
+    }
+
+    if (rightRank == null) {
+      return Optional.of(leftRank + RANK_STEP);
+    }
+
+    if (rightRank - leftRank < 2) {
+      return Optional.empty();
+    }
+
+    return Optional.of(leftRank + (rightRank - leftRank) / 2);
+  }
+}
@@ -0,0 +1,36 @@
+package org.example.api.dto;
+
+import com.fasterxml.jackson.annotation.JsonProperty;
+import java.time.Instant;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import lombok.NonNull;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class ArchivedTaskDto {
+
+  @NonNull
+  private Long id;
+
+  private String name;
+
+  private String description;
+
+  @JsonProperty("created_at")
+  private Instant createdAt;
+
+  @NonNull
+  @JsonProperty("archived_at")
+  private Instant archivedAt;
+
+  @JsonProperty("task_state_id")
+  private Long taskStateId;
+
+  @JsonProperty("task_state_name")
+  private String taskStateName;
+}
@@ -0,0 +1,92 @@
+package org.example.api.dto;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.fasterxml.jackson.annotation.JsonProperty;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.NonNull;
+import lombok.RequiredArgsConstructor;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public class BoardEventDto {
+
+  /**
+   * Change log seq, resume with {@code GET /api/projects/{project_id}/changes?since=seq}.
+   */
+  private Long seq;
+
+  @NonNull
+  private Type type;
+
+  @NonNull
+  @JsonProperty("project_id")
+  private Long projectId;
+
+  @JsonProperty("project_name")
+  private String projectName;
+
+  @JsonProperty("task_state_id")
+  private Long taskStateId;
+
+  @JsonProperty("task_state_name")
+  private String taskStateName;
+
+  @JsonProperty("left_task_state_id")
+  private Long leftTaskStateId;
+
+  @JsonProperty("right_task_state_id")
+  private Long rightTaskStateId;
+
+  @JsonProperty("task_id")
+  private Long taskId;
+
+  private TaskDto task;
+
+  @Getter
+  @RequiredArgsConstructor
+  public enum Type {
+
+    @JsonProperty("project_renamed")
+    PROJECT_RENAMED("project_renamed"),
+
+    @JsonProperty("project_deleted")
+    PROJECT_DELETED("project_deleted"),
+
+    @JsonProperty("task_state_created")
+    TASK_STATE_CREATED("task_state_created"),
+
+    @JsonProperty("task_state_renamed")
+    TASK_STATE_RENAMED("task_state_renamed"),
+
+    @JsonProperty("task_state_moved")
+    TASK_STATE_MOVED("task_state_moved"),
+
+    @JsonProperty("task_state_deleted")
+    TASK_STATE_DELETED("task_state_deleted"),
+
+    @JsonProperty("task_created")
+    TASK_CREATED("task_created"),
+
+    @JsonProperty("task_updated")
+    TASK_UPDATED("task_updated"),
+
+    @JsonProperty("task_deleted")
+    TASK_DELETED("task_deleted"),
+
+    /**
+     * Too many changes to describe one by one (bulk creation, import, batched operations), the
+     * board has to be fetched again.
+     */
+    @JsonProperty("board_changed")
+    BOARD_CHANGED("board_changed");
+
+    private final String eventName;
+  }
+}
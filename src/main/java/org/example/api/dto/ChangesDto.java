@@ -0,0 +1,55 @@
+package org.example.api.dto;
+
+import com.fasterxml.jackson.annotation.JsonProperty;
+import java.util.List;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import lombok.NonNull;
+
+/**
+ * Current state of everything that changed after {@code since}. {@code task_state_order} is only
+ * present when task states were created, moved or deleted. With {@code resync_required} the board
+ * must be fetched again and synced from {@code next_since}.
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class ChangesDto {
+
+  @NonNull
+  @JsonProperty("project_id")
+  private Long projectId;
+
+  @NonNull
+  @JsonProperty("next_since")
+  private Long nextSince;
+
+  @JsonProperty("has_more")
+  private boolean hasMore;
+
+  @JsonProperty("resync_required")
+  private boolean resyncRequired;
+
+  private ProjectDto project;
+
+  @NonNull
+  @JsonProperty("task_states")
+  private List<TaskStateChangeDto> taskStates;
+
+  @NonNull
+  @JsonProperty("deleted_task_state_ids")
+  private List<Long> deletedTaskStateIds;
+
+  @JsonProperty("task_state_order")
+  private List<Long> taskStateOrder;
+
+  @NonNull
+  private List<TaskChangeDto> tasks;
+
+  @NonNull
+  @JsonProperty("deleted_task_ids")
+  private List<Long> deletedTaskIds;
+}
@@ -0,0 +1,36 @@
+package org.example.api.dto;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.fasterxml.jackson.annotation.JsonProperty;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import lombok.NonNull;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public class DeletionStatusDto {
+
+  @NonNull
+  private Status status;
+
+  @JsonProperty("remaining_tasks")
+  private Long remainingTasks;
+
+  public enum Status {
+
+    @JsonProperty("active")
+    ACTIVE,
+
+    @JsonProperty("purging")
+    PURGING,
+
+    // Also reported for ids that never existed, nothing is kept once a purge finishes
+    @JsonProperty("purged")
+    PURGED
+  }
+}
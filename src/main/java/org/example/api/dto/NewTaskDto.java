@@ -0,0 +1,17 @@
+package org.example.api.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class NewTaskDto {
+
+  private String name;
+
+  private String description;
+}
@@ -0,0 +1,22 @@
+package org.example.api.dto;
+
+import com.fasterxml.jackson.annotation.JsonProperty;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import lombok.NonNull;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class TaskChangeDto {
+
+  @NonNull
+  @JsonProperty("task_state_id")
+  private Long taskStateId;
+
+  @NonNull
+  private TaskDto task;
+}
@@ -0,0 +1,22 @@
+package org.example.api.dto;
+
+import com.fasterxml.jackson.annotation.JsonProperty;
+import java.util.List;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import lombok.NonNull;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class TaskSearchPageDto {
+
+  @NonNull
+  private List<TaskSearchResultDto> tasks;
+
+  @JsonProperty("next_offset")
+  private Integer nextOffset;
+}
@@ -0,0 +1,28 @@
+package org.example.api.dto;
+
+import com.fasterxml.jackson.annotation.JsonProperty;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import lombok.NonNull;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class TaskSearchResultDto {
+
+  @NonNull
+  @JsonProperty("project_id")
+  private Long projectId;
+
+  @NonNull
+  @JsonProperty("task_state_id")
+  private Long taskStateId;
+
+  @NonNull
+  private TaskDto task;
+
+  private float rank;
+}
@@ -0,0 +1,37 @@
+package org.example.api.dto;
+
+import com.fasterxml.jackson.annotation.JsonProperty;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class TaskStateOperationDto {
+
+  private Type type;
+
+  @JsonProperty("task_state_id")
+  private Long taskStateId;
+
+  @JsonProperty("task_state_name")
+  private String taskStateName;
+
+  @JsonProperty("left_task_state_id")
+  private Long leftTaskStateId;
+
+  public enum Type {
+
+    @JsonProperty("rename")
+    RENAME,
+
+    @JsonProperty("move")
+    MOVE,
+
+    @JsonProperty("delete")
+    DELETE
+  }
+}
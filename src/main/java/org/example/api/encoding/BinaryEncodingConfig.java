@@ -0,0 +1,90 @@
+package org.example.api.encoding;
+
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.databind.DeserializationFeature;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.dataformat.cbor.CBORFactory;
+import com.fasterxml.jackson.dataformat.smile.SmileFactory;
+import java.util.ArrayList;
+import java.util.List;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.http.InvalidMediaTypeException;
+import org.springframework.http.MediaType;
+import org.springframework.http.converter.cbor.MappingJackson2CborHttpMessageConverter;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+import org.springframework.http.converter.smile.MappingJackson2SmileHttpMessageConverter;
+
+/**
+ * CBOR and Smile encodings of the existing DTOs, picked by the Accept header. Both reuse the
+ * application's Jackson settings, except that timestamps are written as epoch millis.
+ */
+@Configuration(proxyBeanMethods = false)
+public class BinaryEncodingConfig {
+
+  public static final String APPLICATION_SMILE_VALUE = "application/x-jackson-smile";
+
+  public static final MediaType APPLICATION_SMILE = MediaType.valueOf(APPLICATION_SMILE_VALUE);
+
+  @Bean
+  public MappingJackson2CborHttpMessageConverter cborHttpMessageConverter(
+      Jackson2ObjectMapperBuilder jackson2ObjectMapperBuilder) {
+    return new MappingJackson2CborHttpMessageConverter(
+        makeBinaryObjectMapper(jackson2ObjectMapperBuilder, new CBORFactory()));
+  }
+
+  @Bean
+  public MappingJackson2SmileHttpMessageConverter smileHttpMessageConverter(
+      Jackson2ObjectMapperBuilder jackson2ObjectMapperBuilder) {
+    return new MappingJackson2SmileHttpMessageConverter(
+        makeBinaryObjectMapper(jackson2ObjectMapperBuilder, new SmileFactory()));
+  }
+
+  public static ObjectMapper makeBinaryObjectMapper(
+      Jackson2ObjectMapperBuilder jackson2ObjectMapperBuilder,
+      JsonFactory jsonFactory) {
+
+    return jackson2ObjectMapperBuilder
+        .factory(jsonFactory)
+        .featuresToEnable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS)
+        .featuresToDisable(
+            SerializationFeature.WRITE_DATE_TIMESTAMPS_AS_NANOSECONDS,
+            DeserializationFeature.READ_DATE_TIMESTAMPS_AS_NANOSECONDS)
+        .build();
+  }
+
+  /**
+   * Representation tag for ETags of responses negotiated between JSON and the binary encodings.
+   */
+  public static String getRepresentation(String acceptHeader) {
+
+    if (acceptHeader == null) {
+      return "json";
+    }
+
+    List<MediaType> acceptedMediaTypes;
+    try {
+      acceptedMediaTypes = new ArrayList<>(MediaType.parseMediaTypes(acceptHeader));
+    } catch (InvalidMediaTypeException ex) {
+      return "json";
+    }
+
+    MediaType.sortBySpecificityAndQuality(acceptedMediaTypes);
+
+    for (MediaType acceptedMediaType : acceptedMediaTypes) {
+
+      if (acceptedMediaType.isCompatibleWith(MediaType.APPLICATION_JSON)) {
+        return "json";
+      }
+      if (acceptedMediaType.isCompatibleWith(MediaType.APPLICATION_CBOR)) {
+        return "cbor";
+      }
+      if (acceptedMediaType.isCompatibleWith(APPLICATION_SMILE)) {
+        return "smile";
+      }
+    }
+
+    return "json";
+  }
+}
@@ -0,0 +1,42 @@
+package org.example.api.encoding;
+
+import com.fasterxml.jackson.annotation.JsonFilter;
+import com.fasterxml.jackson.databind.ser.impl.SimpleBeanPropertyFilter;
+import com.fasterxml.jackson.databind.ser.impl.SimpleFilterProvider;
+import java.util.Set;
+import org.example.api.dto.TaskStateDto;
+import org.springframework.boot.autoconfigure.jackson.Jackson2ObjectMapperBuilderCustomizer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.http.converter.json.MappingJacksonValue;
+
+/**
+ * Lets a response serialise only some properties of a DTO. Without a filter for the request every
+ * property is written, as before.
+ */
+@Configuration(proxyBeanMethods = false)
+public class SparseFieldsConfig {
+
+  public static final String TASK_STATE_FIELDS = "taskStateFields";
+
+  @Bean
+  public Jackson2ObjectMapperBuilderCustomizer sparseFieldsCustomizer() {
+    return builder -> builder
+        .mixIn(TaskStateDto.class, TaskStateFieldsMixIn.class)
+        .filters(new SimpleFilterProvider().setFailOnUnknownId(false));
+  }
+
+  public static MappingJacksonValue withTaskStateFields(Object value, Set<String> fields) {
+
+    MappingJacksonValue mappingJacksonValue = new MappingJacksonValue(value);
+
+    mappingJacksonValue.setFilters(new SimpleFilterProvider()
+        .addFilter(TASK_STATE_FIELDS, SimpleBeanPropertyFilter.filterOutAllExcept(fields)));
+
+    return mappingJacksonValue;
+  }
+
+  @JsonFilter(TASK_STATE_FIELDS)
+  interface TaskStateFieldsMixIn {
+  }
+}
@@ -1,6 +1,8 @@
 package org.example.api.exceptions;
 
 import lombok.extern.log4j.Log4j2;
+import org.springframework.dao.OptimisticLockingFailureException;
+import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.ControllerAdvice;
 import org.springframework.web.bind.annotation.ExceptionHandler;
@@ -11,6 +13,18 @@ import org.springframework.web.servlet.mvc.method.annotation.ResponseEntityExcep
 @ControllerAdvice
 public class CustomExceptionHandler extends ResponseEntityExceptionHandler {
 
+  @ExceptionHandler(OptimisticLockingFailureException.class)
+  public ResponseEntity<ErrorDTO> optimisticLockingFailure(OptimisticLockingFailureException ex) {
+    log.debug("Concurrent modification during execution of application", ex);
+
+    return ResponseEntity
+        .status(HttpStatus.CONFLICT)
+        .body(ErrorDTO.builder()
+            .error(HttpStatus.CONFLICT.getReasonPhrase())
+            .errorDescription("Resource was changed concurrently, please retry.")
+            .build());
+  }
+
   @ExceptionHandler(Exception.class)
   public ResponseEntity<Object> exception(Exception ex, WebRequest request) throws Exception {
     log.error("Exception during execution of application", ex);
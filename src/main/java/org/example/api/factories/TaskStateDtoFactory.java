@@ -1,23 +1,31 @@
 package org.example.api.factories;
 
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
 import java.util.stream.Collectors;
 import lombok.RequiredArgsConstructor;
 import org.example.api.dto.TaskStateDto;
 import org.example.store.entities.TaskStateEntity;
+import org.example.store.repositories.TaskStateRepository.TaskStateSummary;
 import org.springframework.stereotype.Component;
 
 @RequiredArgsConstructor
 @Component
 public class TaskStateDtoFactory {
 
-  TaskDtoFactory taskDtoFactory;
+  private final TaskDtoFactory taskDtoFactory;
+
+  public TaskStateDto makeTaskStateDto(
+      TaskStateEntity entity,
+      Long leftTaskStateId,
+      Long rightTaskStateId) {
 
-  public TaskStateDto makeTaskStateDto(TaskStateEntity entity) {
     return TaskStateDto.builder()
         .id(entity.getId())
         .name(entity.getName())
-        .leftTaskStateId(entity.getLeftTaskState().map(TaskStateEntity::getId).orElse(null))
-        .rightTaskStateId(entity.getRightTaskState().map(TaskStateEntity::getId).orElse(null))
+        .leftTaskStateId(leftTaskStateId)
+        .rightTaskStateId(rightTaskStateId)
         .createdAt(entity.getCreatedAt())
         .tasks(entity.getTasks()
             .stream()
@@ -26,4 +34,44 @@ public class TaskStateDtoFactory {
         .build();
   }
 
+  public List<TaskStateDto> makeTaskStateDtoList(List<TaskStateEntity> orderedEntities) {
+
+    List<TaskStateDto> taskStates = new ArrayList<>(orderedEntities.size());
+
+    for (int i = 0; i < orderedEntities.size(); i++) {
+      taskStates.add(makeTaskStateDto(
+          orderedEntities.get(i),
+          i > 0 ? orderedEntities.get(i - 1).getId() : null,
+          i < orderedEntities.size() - 1 ? orderedEntities.get(i + 1).getId() : null
+      ));
+    }
+
+    return taskStates;
+  }
+
+  /**
+   * Board columns without their tasks.
+   */
+  public List<TaskStateDto> makeTaskStateSummaryDtoList(List<TaskStateSummary> orderedSummaries) {
+
+    List<TaskStateDto> taskStates = new ArrayList<>(orderedSummaries.size());
+
+    for (int i = 0; i < orderedSummaries.size(); i++) {
+
+      TaskStateSummary summary = orderedSummaries.get(i);
+
+      taskStates.add(TaskStateDto.builder()
+          .id(summary.getId())
+          .name(summary.getName())
+          .leftTaskStateId(i > 0 ? orderedSummaries.get(i - 1).getId() : null)
+          .rightTaskStateId(
+              i < orderedSummaries.size() - 1 ? orderedSummaries.get(i + 1).getId() : null)
+          .createdAt(summary.getCreatedAt())
+          .tasks(Collections.emptyList())
+          .build());
+    }
+
+    return taskStates;
+  }
+
 }
@@ -0,0 +1,45 @@
+package org.example.api.metrics;
+
+import io.micrometer.core.instrument.Tag;
+import io.micrometer.core.instrument.Tags;
+import javax.servlet.http.HttpServletRequest;
+import javax.servlet.http.HttpServletResponse;
+import org.springframework.boot.actuate.metrics.web.servlet.WebMvcTagsContributor;
+import org.springframework.stereotype.Component;
+import org.springframework.web.method.HandlerMethod;
+
+/**
+ * Adds the controller method, e.g. {@code TaskStateController.getTaskStates}, to
+ * {@code http.server.requests}.
+ */
+@Component
+public class HandlerTagsContributor implements WebMvcTagsContributor {
+
+  private static final String NONE = "none";
+
+  @Override
+  public Iterable<Tag> getTags(
+      HttpServletRequest request,
+      HttpServletResponse response,
+      Object handler,
+      Throwable exception) {
+
+    return Tags.of("handler", getHandlerName(handler));
+  }
+
+  @Override
+  public Iterable<Tag> getLongRequestTags(HttpServletRequest request, Object handler) {
+    return Tags.of("handler", getHandlerName(handler));
+  }
+
+  static String getHandlerName(Object handler) {
+
+    if (!(handler instanceof HandlerMethod)) {
+      return NONE;
+    }
+
+    HandlerMethod handlerMethod = (HandlerMethod) handler;
+
+    return handlerMethod.getBeanType().getSimpleName() + "." + handlerMethod.getMethod().getName();
+  }
+}
@@ -0,0 +1,34 @@
+package org.example.api.metrics;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import java.util.List;
+import lombok.RequiredArgsConstructor;
+import org.hibernate.jpa.boot.spi.IntegratorProvider;
+import org.springframework.boot.autoconfigure.orm.jpa.HibernatePropertiesCustomizer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.web.servlet.config.annotation.InterceptorRegistry;
+import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
+
+@RequiredArgsConstructor
+@Configuration(proxyBeanMethods = false)
+public class RequestMetricsConfig implements WebMvcConfigurer {
+
+  private final MeterRegistry meterRegistry;
+
+  @Bean
+  public HibernatePropertiesCustomizer requestStatisticsCustomizer() {
+
+    RequestStatisticsIntegrator integrator = new RequestStatisticsIntegrator();
+
+    return properties -> {
+      properties.put("hibernate.session_factory.statement_inspector", integrator);
+      properties.put("hibernate.integrator_provider", (IntegratorProvider) () -> List.of(integrator));
+    };
+  }
+
+  @Override
+  public void addInterceptors(InterceptorRegistry registry) {
+    registry.addInterceptor(new RequestStatisticsInterceptor(meterRegistry));
+  }
+}
@@ -0,0 +1,108 @@
+package org.example.api.metrics;
+
+import java.util.function.Supplier;
+import lombok.Getter;
+
+/**
+ * Hibernate work done by the current thread between {@link #start()} and {@link #stop()}. Requests
+ * are measured by {@link RequestStatisticsInterceptor}; tests can use {@link #capture(Supplier)} to
+ * check statement budgets of a single call.
+ */
+@Getter
+public class RequestStatistics {
+
+  private static final ThreadLocal<RequestStatistics> CURRENT = new ThreadLocal<>();
+
+  private long statements;
+
+  private long flushes;
+
+  private long entityLoads;
+
+  private long collectionFetches;
+
+  public static void start() {
+    CURRENT.set(new RequestStatistics());
+  }
+
+  public static RequestStatistics stop() {
+
+    RequestStatistics statistics = CURRENT.get();
+
+    CURRENT.remove();
+
+    return statistics == null ? new RequestStatistics() : statistics;
+  }
+
+  public static <T> Captured<T> capture(Supplier<T> action) {
+
+    RequestStatistics outer = CURRENT.get();
+
+    start();
+    try {
+      T result = action.get();
+      return new Captured<>(result, CURRENT.get());
+    } finally {
+      CURRENT.remove();
+      if (outer != null) {
+        CURRENT.set(outer);
+      }
+    }
+  }
+
+  static void statementPrepared() {
+
+    RequestStatistics statistics = CURRENT.get();
+
+    if (statistics != null) {
+      statistics.statements++;
+    }
+  }
+
+  static void flushed() {
+
+    RequestStatistics statistics = CURRENT.get();
+
+    if (statistics != null) {
+      statistics.flushes++;
+    }
+  }
+
+  static void entityLoaded() {
+
+    RequestStatistics statistics = CURRENT.get();
+
+    if (statistics != null) {
+      statistics.entityLoads++;
+    }
+  }
+
+  static void collectionFetched() {
+
+    RequestStatistics statistics = CURRENT.get();
+
+    if (statistics != null) {
+      statistics.collectionFetches++;
+    }
+  }
+
+  @Override
+  public String toString() {
+    return String.format(
+        "statements=%d, flushes=%d, entityLoads=%d, collectionFetches=%d",
+        statements, flushes, entityLoads, collectionFetches);
+  }
+
+  @Getter
+  public static class Captured<T> {
+
+    private final T result;
+
+    private final RequestStatistics statistics;
+
+    private Captured(T result, RequestStatistics statistics) {
+      this.result = result;
+      this.statistics = statistics;
+    }
+  }
+}
@@ -0,0 +1,57 @@
+package org.example.api.metrics;
+
+import org.hibernate.boot.Metadata;
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.hibernate.event.service.spi.EventListenerRegistry;
+import org.hibernate.event.spi.AutoFlushEventListener;
+import org.hibernate.event.spi.EventType;
+import org.hibernate.event.spi.FlushEventListener;
+import org.hibernate.event.spi.InitializeCollectionEventListener;
+import org.hibernate.event.spi.PostLoadEventListener;
+import org.hibernate.integrator.spi.Integrator;
+import org.hibernate.resource.jdbc.spi.StatementInspector;
+import org.hibernate.service.spi.SessionFactoryServiceRegistry;
+
+/**
+ * Feeds {@link RequestStatistics}. Listeners are appended after Hibernate's own, so an auto flush
+ * is only counted when it actually had something to flush.
+ */
+public class RequestStatisticsIntegrator implements Integrator, StatementInspector {
+
+  @Override
+  public String inspect(String sql) {
+
+    RequestStatistics.statementPrepared();
+
+    return sql;
+  }
+
+  @Override
+  public void integrate(
+      Metadata metadata,
+      SessionFactoryImplementor sessionFactory,
+      SessionFactoryServiceRegistry serviceRegistry) {
+
+    EventListenerRegistry registry = serviceRegistry.getService(EventListenerRegistry.class);
+
+    registry.appendListeners(EventType.FLUSH, (FlushEventListener) event -> RequestStatistics.flushed());
+
+    registry.appendListeners(EventType.AUTO_FLUSH, (AutoFlushEventListener) event -> {
+      if (event.isFlushRequired()) {
+        RequestStatistics.flushed();
+      }
+    });
+
+    registry.appendListeners(EventType.POST_LOAD, (PostLoadEventListener) event ->
+        RequestStatistics.entityLoaded());
+
+    registry.appendListeners(EventType.INIT_COLLECTION, (InitializeCollectionEventListener) event ->
+        RequestStatistics.collectionFetched());
+  }
+
+  @Override
+  public void disintegrate(
+      SessionFactoryImplementor sessionFactory,
+      SessionFactoryServiceRegistry serviceRegistry) {
+  }
+}
@@ -0,0 +1,53 @@
+package org.example.api.metrics;
+
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import javax.servlet.http.HttpServletRequest;
+import javax.servlet.http.HttpServletResponse;
+import lombok.RequiredArgsConstructor;
+import org.springframework.web.method.HandlerMethod;
+import org.springframework.web.servlet.HandlerInterceptor;
+
+@RequiredArgsConstructor
+public class RequestStatisticsInterceptor implements HandlerInterceptor {
+
+  private final MeterRegistry meterRegistry;
+
+  @Override
+  public boolean preHandle(HttpServletRequest request, HttpServletResponse response, Object handler) {
+
+    if (handler instanceof HandlerMethod) {
+      RequestStatistics.start();
+    }
+
+    return true;
+  }
+
+  @Override
+  public void afterCompletion(
+      HttpServletRequest request,
+      HttpServletResponse response,
+      Object handler,
+      Exception ex) {
+
+    if (!(handler instanceof HandlerMethod)) {
+      return;
+    }
+
+    RequestStatistics statistics = RequestStatistics.stop();
+
+    String handlerName = HandlerTagsContributor.getHandlerName(handler);
+
+    record("hibernate.request.statements", handlerName, statistics.getStatements());
+    record("hibernate.request.flushes", handlerName, statistics.getFlushes());
+    record("hibernate.request.entity.loads", handlerName, statistics.getEntityLoads());
+    record("hibernate.request.collection.fetches", handlerName, statistics.getCollectionFetches());
+  }
+
+  private void record(String name, String handlerName, long amount) {
+    DistributionSummary.builder(name)
+        .tag("handler", handlerName)
+        .register(meterRegistry)
+        .record(amount);
+  }
+}
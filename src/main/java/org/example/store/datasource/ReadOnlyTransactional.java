@@ -0,0 +1,20 @@
+package org.example.store.datasource;
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+import org.springframework.transaction.annotation.Transactional;
+
+/**
+ * Runs the method in a read-only transaction, which {@link ReadRoutingDataSource} sends to a
+ * replica when one is configured. Overrides the class-level {@code javax.transaction.Transactional}
+ * of the controllers, which has no read-only flag.
+ */
+@Target(ElementType.METHOD)
+@Retention(RetentionPolicy.RUNTIME)
+@Documented
+@Transactional(readOnly = true)
+public @interface ReadOnlyTransactional {
+}
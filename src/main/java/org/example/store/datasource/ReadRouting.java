@@ -0,0 +1,25 @@
+package org.example.store.datasource;
+
+/**
+ * Per-thread override that keeps read-only transactions on the primary. Must be set before the
+ * transaction runs its first statement, as that is when the connection is picked.
+ */
+public final class ReadRouting {
+
+  private static final ThreadLocal<Boolean> PRIMARY_FORCED = new ThreadLocal<>();
+
+  private ReadRouting() {
+  }
+
+  public static void forcePrimary() {
+    PRIMARY_FORCED.set(Boolean.TRUE);
+  }
+
+  public static boolean isPrimaryForced() {
+    return PRIMARY_FORCED.get() != null;
+  }
+
+  public static void clear() {
+    PRIMARY_FORCED.remove();
+  }
+}
@@ -0,0 +1,72 @@
+package org.example.store.datasource;
+
+import com.zaxxer.hikari.HikariDataSource;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.util.ArrayList;
+import java.util.List;
+import javax.sql.DataSource;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+
+@EnableConfigurationProperties(ReadRoutingProperties.class)
+@Configuration(proxyBeanMethods = false)
+public class ReadRoutingConfig {
+
+  /**
+   * Only replaces Boot's DataSource when at least one replica is configured.
+   */
+  @ConditionalOnProperty("task-tracker.datasource.replicas[0].url")
+  @Configuration(proxyBeanMethods = false)
+  static class ReplicaDataSourceConfig {
+
+    @Bean
+    @ConfigurationProperties("spring.datasource.hikari")
+    public HikariDataSource primaryDataSource(DataSourceProperties dataSourceProperties) {
+
+      HikariDataSource primary = dataSourceProperties
+          .initializeDataSourceBuilder()
+          .type(HikariDataSource.class)
+          .build();
+
+      primary.setPoolName("primary");
+
+      return primary;
+    }
+
+    @Primary
+    @Bean
+    public DataSource dataSource(
+        HikariDataSource primaryDataSource,
+        DataSourceProperties dataSourceProperties,
+        ReadRoutingProperties readRoutingProperties,
+        ObjectProvider<MeterRegistry> meterRegistry) {
+
+      List<DataSource> replicas = new ArrayList<>();
+
+      for (ReadRoutingProperties.Replica replica : readRoutingProperties.getReplicas()) {
+
+        HikariDataSource replicaDataSource = new HikariDataSource();
+
+        replicaDataSource.setPoolName("replica-" + replicas.size());
+        replicaDataSource.setDriverClassName(dataSourceProperties.determineDriverClassName());
+        replicaDataSource.setJdbcUrl(replica.getUrl());
+        replicaDataSource.setUsername(replica.getUsername());
+        replicaDataSource.setPassword(replica.getPassword());
+        replicaDataSource.setMaximumPoolSize(primaryDataSource.getMaximumPoolSize());
+        replicaDataSource.setReadOnly(true);
+        meterRegistry.ifAvailable(replicaDataSource::setMetricRegistry);
+
+        replicas.add(replicaDataSource);
+      }
+
+      return new LazyConnectionDataSourceProxy(new ReadRoutingDataSource(primaryDataSource, replicas));
+    }
+  }
+}
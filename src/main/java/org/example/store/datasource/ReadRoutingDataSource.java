@@ -0,0 +1,53 @@
+package org.example.store.datasource;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+import javax.sql.DataSource;
+import org.springframework.jdbc.datasource.lookup.AbstractRoutingDataSource;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+/**
+ * Sends read-only transactions to the replicas round-robin and everything else to the primary.
+ * Has to be wrapped in a {@link org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy}:
+ * the read-only flag is only known once the transaction has begun.
+ */
+public class ReadRoutingDataSource extends AbstractRoutingDataSource {
+
+  private static final String PRIMARY = "primary";
+
+  private static final String REPLICA = "replica-";
+
+  private final int replicaCount;
+
+  private final AtomicInteger nextReplica = new AtomicInteger();
+
+  public ReadRoutingDataSource(DataSource primary, List<DataSource> replicas) {
+
+    Map<Object, Object> dataSources = new HashMap<>();
+
+    dataSources.put(PRIMARY, primary);
+    for (int i = 0; i < replicas.size(); i++) {
+      dataSources.put(REPLICA + i, replicas.get(i));
+    }
+
+    replicaCount = replicas.size();
+
+    setTargetDataSources(dataSources);
+    setDefaultTargetDataSource(primary);
+    afterPropertiesSet();
+  }
+
+  @Override
+  protected Object determineCurrentLookupKey() {
+
+    if (replicaCount == 0
+        || !TransactionSynchronizationManager.isCurrentTransactionReadOnly()
+        || ReadRouting.isPrimaryForced()) {
+      return PRIMARY;
+    }
+
+    return REPLICA + Math.floorMod(nextReplica.getAndIncrement(), replicaCount);
+  }
+}
@@ -0,0 +1,30 @@
+package org.example.store.datasource;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+@Data
+@ConfigurationProperties("task-tracker.datasource")
+public class ReadRoutingProperties {
+
+  private List<Replica> replicas = new ArrayList<>();
+
+  /**
+   * How long reads stay on the primary after a write, for the writing client and for the changed
+   * board or project list. Should cover the usual replication lag.
+   */
+  private Duration readYourWritesWindow = Duration.ofSeconds(5);
+
+  @Data
+  public static class Replica {
+
+    private String url;
+
+    private String username;
+
+    private String password;
+  }
+}
@@ -0,0 +1,67 @@
+package org.example.store.entities;
+
+import java.time.Instant;
+import javax.persistence.Entity;
+import javax.persistence.EnumType;
+import javax.persistence.Enumerated;
+import javax.persistence.GeneratedValue;
+import javax.persistence.GenerationType;
+import javax.persistence.Id;
+import javax.persistence.Index;
+import javax.persistence.SequenceGenerator;
+import javax.persistence.Table;
+import javax.persistence.UniqueConstraint;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+/**
+ * Append-only record of board mutations. {@code projectId} is a plain column, so entries outlive
+ * the project they describe until compaction.
+ */
+@Entity
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+@Table(
+    name = "change_log",
+    uniqueConstraints = @UniqueConstraint(
+        name = "change_log_project_id_seq_uindex",
+        columnNames = {"project_id", "seq"}
+    ),
+    indexes = @Index(
+        name = "change_log_project_id_entity_index",
+        columnList = "project_id, entity_type, entity_id, seq"
+    )
+)
+public class ChangeLogEntity {
+
+  @Id
+  @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "change_log_id_seq")
+  @SequenceGenerator(name = "change_log_id_seq", sequenceName = "change_log_id_seq", allocationSize = 50)
+  private Long id;
+
+  private Long projectId;
+
+  private Long seq;
+
+  @Enumerated(EnumType.STRING)
+  private EntityType entityType;
+
+  private Long entityId;
+
+  private boolean deleted;
+
+  @Builder.Default
+  private Instant createdAt = Instant.now();
+
+  public enum EntityType {
+    PROJECT,
+    TASK_STATE,
+    TASK
+  }
+}
@@ -0,0 +1,42 @@
+package org.example.store.entities;
+
+import java.time.Instant;
+import javax.persistence.Column;
+import javax.persistence.Entity;
+import javax.persistence.Id;
+import javax.persistence.Index;
+import javax.persistence.Table;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+/**
+ * Completed responses of idempotent requests, shared between instances. A null response marks a
+ * request that is still in flight.
+ */
+@Entity
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+@Table(
+    name = "idempotency_key",
+    indexes = @Index(name = "idempotency_key_created_at_index", columnList = "created_at")
+)
+public class IdempotencyKeyEntity {
+
+  @Id
+  @Column(length = 512)
+  private String id;
+
+  private String fingerprint;
+
+  @Column(columnDefinition = "text")
+  private String response;
+
+  @Builder.Default
+  private Instant createdAt = Instant.now();
+}
@@ -3,6 +3,7 @@ package org.example.store.entities;
 import java.time.Instant;
 import java.util.ArrayList;
 import java.util.List;
+import javax.persistence.Cacheable;
 import javax.persistence.Column;
 import javax.persistence.Entity;
 import javax.persistence.GeneratedValue;
@@ -10,14 +11,22 @@ import javax.persistence.GenerationType;
 import javax.persistence.Id;
 import javax.persistence.JoinColumn;
 import javax.persistence.OneToMany;
+import javax.persistence.OrderBy;
 import javax.persistence.Table;
+import javax.persistence.Version;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
 import lombok.Setter;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
+import org.hibernate.annotations.Where;
 
 @Entity
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE)
+@Where(clause = "deleted = false")
 @Getter
 @Setter
 @NoArgsConstructor
@@ -30,14 +39,23 @@ public class ProjectEntity {
   @GeneratedValue(strategy = GenerationType.SEQUENCE)
   private Long id;
 
-  @Column(unique = true)
+  // Unique among live projects only, see project_name_lower_live_uindex in schema.sql
   private String name;
 
   @Builder.Default
   private Instant createdAt = Instant.now();
 
+  @Version
+  @Column(columnDefinition = "bigint default 0")
+  private Long version;
+
+  @Builder.Default
+  @Column(nullable = false, columnDefinition = "boolean default false")
+  private boolean deleted = false;
+
   @Builder.Default
   @OneToMany
+  @OrderBy("rank")
   @JoinColumn(name = "project_id")
   private List<TaskStateEntity> taskStates = new ArrayList<>();
 
@@ -3,9 +3,14 @@ package org.example.store.entities;
 import java.time.Instant;
 import javax.persistence.Column;
 import javax.persistence.Entity;
+import javax.persistence.FetchType;
 import javax.persistence.GeneratedValue;
 import javax.persistence.GenerationType;
 import javax.persistence.Id;
+import javax.persistence.Index;
+import javax.persistence.JoinColumn;
+import javax.persistence.ManyToOne;
+import javax.persistence.SequenceGenerator;
 import javax.persistence.Table;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
@@ -19,11 +24,15 @@ import lombok.Setter;
 @NoArgsConstructor
 @AllArgsConstructor
 @Builder
-@Table(name = "task")
+@Table(
+    name = "task",
+    indexes = @Index(name = "task_task_state_id_index", columnList = "task_state_id")
+)
 public class TaskEntity {
 
   @Id
-  @GeneratedValue(strategy = GenerationType.SEQUENCE)
+  @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "task_id_seq")
+  @SequenceGenerator(name = "task_id_seq", sequenceName = "task_id_seq", allocationSize = 50)
   private Long id;
 
   private String name;
@@ -33,4 +42,8 @@ public class TaskEntity {
 
   private String description;
 
+  @ManyToOne(fetch = FetchType.LAZY)
+  @JoinColumn(name = "task_state_id")
+  private TaskStateEntity taskState;
+
 }
@@ -3,30 +3,39 @@ package org.example.store.entities;
 import java.time.Instant;
 import java.util.ArrayList;
 import java.util.List;
-import java.util.Optional;
+import javax.persistence.Cacheable;
 import javax.persistence.Column;
 import javax.persistence.Entity;
 import javax.persistence.GeneratedValue;
 import javax.persistence.GenerationType;
 import javax.persistence.Id;
-import javax.persistence.JoinColumn;
+import javax.persistence.Index;
 import javax.persistence.ManyToOne;
 import javax.persistence.OneToMany;
-import javax.persistence.OneToOne;
 import javax.persistence.Table;
+import javax.persistence.Version;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
 import lombok.Setter;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
+import org.hibernate.annotations.Where;
 
 @Entity
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE)
+@Where(clause = "deleted = false")
 @Getter
 @Setter
 @NoArgsConstructor
 @AllArgsConstructor
 @Builder
-@Table(name = "task_state")
+@Table(
+    name = "task_state",
+    indexes = @Index(name = "task_state_project_id_rank_index", columnList = "project_id, rank")
+)
 public class TaskStateEntity {
   @Id
   @GeneratedValue(strategy = GenerationType.SEQUENCE)
@@ -34,11 +43,7 @@ public class TaskStateEntity {
 
   private String name;
 
-  @OneToOne
-  private TaskStateEntity leftTaskState;
-
-  @OneToOne
-  private TaskStateEntity rightTaskState;
+  private Long rank;
 
   @ManyToOne
   private ProjectEntity project;
@@ -46,16 +51,16 @@ public class TaskStateEntity {
   @Builder.Default
   private Instant createdAt = Instant.now();
 
+  @Version
+  @Column(columnDefinition = "bigint default 0")
+  private Long version;
+
   @Builder.Default
-  @OneToMany
-  @JoinColumn(name= "task_state_id", referencedColumnName = "id")
-  private List<TaskEntity> tasks = new ArrayList<>();
+  @Column(nullable = false, columnDefinition = "boolean default false")
+  private boolean deleted = false;
 
-  public Optional<TaskStateEntity> getLeftTaskState() {
-    return Optional.ofNullable(leftTaskState);
-  }
-  public Optional<TaskStateEntity> getRightTaskState() {
-    return Optional.ofNullable(rightTaskState);
-  }
+  @Builder.Default
+  @OneToMany(mappedBy = "taskState")
+  private List<TaskEntity> tasks = new ArrayList<>();
 
 }
@@ -0,0 +1,98 @@
+package org.example.store.repositories;
+
+import static org.hibernate.annotations.QueryHints.NATIVE_SPACES;
+
+import java.time.Instant;
+import java.util.List;
+import javax.persistence.QueryHint;
+import org.example.store.entities.ChangeLogEntity;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
+
+/**
+ * Sequence bookkeeping lives in two columns of project that Hibernate doesn't map (see schema.sql):
+ * {@code last_change_seq} and {@code change_log_min_seq}, the lowest seq clients can still sync
+ * from after tombstones were compacted.
+ */
+public interface ChangeLogRepository extends JpaRepository<ChangeLogEntity, Long> {
+
+  // Locks the project row until commit, so seqs become visible in the order they were taken
+  @Query(
+      nativeQuery = true,
+      value = "update project set last_change_seq = last_change_seq + :count "
+          + "where id = :projectId "
+          + "returning last_change_seq"
+  )
+  Long allocateSeqs(@Param("projectId") Long projectId, @Param("count") int count);
+
+  // Same lock as allocateSeqs, clients that synced before the returned seq have to resync
+  @Query(
+      nativeQuery = true,
+      value = "update project set last_change_seq = last_change_seq + 1, "
+          + "change_log_min_seq = last_change_seq + 1 "
+          + "where id = :projectId "
+          + "returning last_change_seq"
+  )
+  Long allocateResyncSeq(@Param("projectId") Long projectId);
+
+  @Query(
+      nativeQuery = true,
+      value = "select last_change_seq as \"lastSeq\", change_log_min_seq as \"minSeq\" "
+          + "from project where id = :projectId"
+  )
+  SeqRange findSeqRange(@Param("projectId") Long projectId);
+
+  List<ChangeLogEntity> findAllByProjectIdAndSeqGreaterThanOrderBySeqAsc(
+      Long projectId,
+      Long seq,
+      Pageable pageable);
+
+  @Modifying
+  @QueryHints(@QueryHint(name = NATIVE_SPACES, value = "change_log"))
+  @Query(
+      nativeQuery = true,
+      value = "delete from change_log where id in ("
+          + "select c.id from change_log c "
+          + "where exists (select 1 from change_log n "
+          + "where n.project_id = c.project_id "
+          + "and n.entity_type = c.entity_type "
+          + "and n.entity_id = c.entity_id "
+          + "and n.seq > c.seq) "
+          + "limit :batchSize)"
+  )
+  int deleteSupersededBatch(@Param("batchSize") int batchSize);
+
+  @Modifying
+  @QueryHints(@QueryHint(name = NATIVE_SPACES, value = "project"))
+  @Query(
+      nativeQuery = true,
+      value = "update project p set change_log_min_seq = t.max_seq "
+          + "from (select project_id, max(seq) as max_seq from change_log "
+          + "where deleted and created_at < :cutoff group by project_id) t "
+          + "where p.id = t.project_id and p.change_log_min_seq < t.max_seq"
+  )
+  int raiseMinSeqsForTombstonesBefore(@Param("cutoff") Instant cutoff);
+
+  @Modifying
+  @QueryHints(@QueryHint(name = NATIVE_SPACES, value = "change_log"))
+  @Query(
+      nativeQuery = true,
+      value = "delete from change_log where id in ("
+          + "select c.id from change_log c "
+          + "where c.created_at < :cutoff "
+          + "and (c.deleted or not exists (select 1 from project p where p.id = c.project_id)) "
+          + "limit :batchSize)"
+  )
+  int deleteExpiredBatch(@Param("cutoff") Instant cutoff, @Param("batchSize") int batchSize);
+
+  interface SeqRange {
+
+    Long getLastSeq();
+
+    Long getMinSeq();
+  }
+}
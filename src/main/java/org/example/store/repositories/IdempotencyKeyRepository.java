@@ -0,0 +1,44 @@
+package org.example.store.repositories;
+
+import static org.hibernate.annotations.QueryHints.NATIVE_SPACES;
+
+import java.time.Instant;
+import javax.persistence.QueryHint;
+import org.example.store.entities.IdempotencyKeyEntity;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
+
+public interface IdempotencyKeyRepository extends JpaRepository<IdempotencyKeyEntity, String> {
+
+  // Returns 0 when a live row already holds the key; an expired one is taken over
+  @Modifying
+  @QueryHints(@QueryHint(name = NATIVE_SPACES, value = "idempotency_key"))
+  @Query(
+      nativeQuery = true,
+      value = "insert into idempotency_key (id, fingerprint, response, created_at) "
+          + "values (:id, :fingerprint, null, :createdAt) "
+          + "on conflict (id) do update "
+          + "set fingerprint = excluded.fingerprint, response = null, created_at = excluded.created_at "
+          + "where idempotency_key.created_at < :expiredBefore"
+  )
+  int claim(
+      @Param("id") String id,
+      @Param("fingerprint") String fingerprint,
+      @Param("createdAt") Instant createdAt,
+      @Param("expiredBefore") Instant expiredBefore);
+
+  @Modifying
+  @Query("update IdempotencyKeyEntity k set k.response = :response where k.id = :id")
+  int complete(@Param("id") String id, @Param("response") String response);
+
+  @Modifying
+  @Query("delete from IdempotencyKeyEntity k where k.id = :id and k.response is null")
+  int deleteInFlight(@Param("id") String id);
+
+  @Modifying
+  @Query("delete from IdempotencyKeyEntity k where k.createdAt < :cutoff")
+  int deleteCreatedBefore(@Param("cutoff") Instant cutoff);
+}
@@ -1,13 +1,78 @@
 package org.example.store.repositories;
 
+import static org.hibernate.annotations.QueryHints.NATIVE_SPACES;
+import static org.hibernate.jpa.QueryHints.HINT_FETCH_SIZE;
+
+import java.util.List;
 import java.util.Optional;
 import java.util.stream.Stream;
+import javax.persistence.QueryHint;
 import org.example.store.entities.ProjectEntity;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
 
 public interface ProjectRepository extends JpaRepository<ProjectEntity, Long> {
-    Optional<ProjectEntity> findByName(String name);
+
+    @QueryHints(@QueryHint(name = HINT_FETCH_SIZE, value = "500"))
     Stream<ProjectEntity> streamAllBy();
+
+    @QueryHints(@QueryHint(name = HINT_FETCH_SIZE, value = "500"))
     Stream<ProjectEntity> streamAllByNameStartsWithIgnoreCase(String name);
 
+    List<ProjectEntity> findAllByIdGreaterThanOrderByIdAsc(Long id, Pageable pageable);
+
+    // Ordered by code point like ProjectNameIndex, see ProjectCursor.NAME_ORDER
+    @Query(
+        nativeQuery = true,
+        value = "select * from project p "
+            + "where not p.deleted "
+            + "and lower(p.name) like concat(:#{escape(#prefix)}, '%') escape :#{escapeCharacter()} "
+            + "and (lower(p.name) collate \"C\" > :name or (lower(p.name) = :name and p.id > :id)) "
+            + "order by lower(p.name) collate \"C\", p.id"
+    )
+    List<ProjectEntity> findAllByNamePrefixAfter(
+        @Param("prefix") String prefix,
+        @Param("name") String name,
+        @Param("id") Long id,
+        Pageable pageable);
+
+    boolean existsByIdAndDeletedFalse(Long id);
+
+    // Native so deleted rows are seen too, they are hidden from entity queries
+    @Query(nativeQuery = true, value = "select deleted from project where id = :id")
+    Optional<Boolean> findDeletedById(@Param("id") Long id);
+
+    @Query(
+        nativeQuery = true,
+        value = "select last_change_seq from project where id = :id and not deleted"
+    )
+    Optional<Long> findLastChangeSeqById(@Param("id") Long id);
+
+    @Query(nativeQuery = true, value = "select version from project_list_version")
+    long findProjectListVersion();
+
+    @Modifying
+    @QueryHints(@QueryHint(name = NATIVE_SPACES, value = "project_list_version"))
+    @Query(nativeQuery = true, value = "update project_list_version set version = version + 1")
+    void incrementProjectListVersion();
+
+    @Query(
+        nativeQuery = true,
+        value = "select id from project where deleted order by id limit :limit"
+    )
+    List<Long> findDeletedIds(@Param("limit") int limit);
+
+    @Modifying
+    @QueryHints(@QueryHint(name = NATIVE_SPACES, value = "project"))
+    @Query(
+        nativeQuery = true,
+        value = "delete from project p "
+            + "where p.id = :id and p.deleted "
+            + "and not exists (select 1 from task_state ts where ts.project_id = p.id)"
+    )
+    int deletePurgedById(@Param("id") Long id);
 }
@@ -0,0 +1,219 @@
+package org.example.store.repositories;
+
+import io.r2dbc.pool.ConnectionPool;
+import io.r2dbc.pool.ConnectionPoolConfiguration;
+import io.r2dbc.spi.ConnectionFactories;
+import io.r2dbc.spi.ConnectionFactoryOptions;
+import io.r2dbc.spi.Row;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.ArrayList;
+import java.util.List;
+import javax.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import org.example.store.entities.ProjectEntity;
+import org.example.store.entities.TaskEntity;
+import org.example.store.entities.TaskStateEntity;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.r2dbc.core.DatabaseClient;
+import org.springframework.stereotype.Repository;
+import reactor.core.publisher.Mono;
+
+@ConditionalOnProperty(name = "task-tracker.reactive-reads.enabled", havingValue = "true")
+@Repository
+public class ReactiveReadRepository {
+
+  private static final String FIND_PROJECTS_AFTER_ID = "select id, name, created_at "
+      + "from project "
+      + "where id > :id and not deleted "
+      + "order by id "
+      + "limit :limit";
+
+  private static final String FIND_PROJECTS_BY_NAME_PREFIX_AFTER = "select id, name, created_at "
+      + "from project "
+      + "where lower(name) like :prefix escape '\\' and not deleted "
+      + "and (lower(name) collate \"C\" > :name or (lower(name) = :name and id > :id)) "
+      + "order by lower(name) collate \"C\", id "
+      + "limit :limit";
+
+  private static final String FIND_BOARD_BY_PROJECT_ID = "select "
+      + "p.id as project_id, "
+      + "ts.id as task_state_id, ts.name as task_state_name, ts.created_at as task_state_created_at, "
+      + "t.id as task_id, t.name as task_name, t.description as task_description, "
+      + "t.created_at as task_created_at "
+      + "from project p "
+      + "left join task_state ts on ts.project_id = p.id and not ts.deleted "
+      + "left join task t on t.task_state_id = ts.id "
+      + "where p.id = :projectId and not p.deleted "
+      + "order by ts.rank, t.id";
+
+  private static final String FIND_PROJECT_LIST_VERSION = "select version from project_list_version";
+
+  private static final String FIND_LAST_CHANGE_SEQ_BY_PROJECT_ID = "select last_change_seq "
+      + "from project "
+      + "where id = :projectId and not deleted";
+
+  // Hibernate writes Instant into timestamp columns using the JVM zone, so read them back the same way
+  private static final ZoneId TIMESTAMP_ZONE = ZoneId.systemDefault();
+
+  private final ConnectionPool connectionPool;
+
+  private final DatabaseClient databaseClient;
+
+  // The pool is deliberately not a bean: a ConnectionFactory bean would switch off the JPA DataSource
+  public ReactiveReadRepository(
+      @Value("${task-tracker.reactive-reads.url}") String url,
+      @Value("${task-tracker.reactive-reads.username}") String username,
+      @Value("${task-tracker.reactive-reads.password}") String password,
+      @Value("${task-tracker.reactive-reads.max-pool-size:20}") int maxPoolSize) {
+
+    ConnectionFactoryOptions options = ConnectionFactoryOptions.parse(url)
+        .mutate()
+        .option(ConnectionFactoryOptions.USER, username)
+        .option(ConnectionFactoryOptions.PASSWORD, password)
+        .build();
+
+    connectionPool = new ConnectionPool(
+        ConnectionPoolConfiguration.builder(ConnectionFactories.get(options))
+            .maxSize(maxPoolSize)
+            .build()
+    );
+
+    databaseClient = DatabaseClient.create(connectionPool);
+  }
+
+  public Mono<List<ProjectEntity>> findProjectsAfterId(Long id, int limit) {
+    return databaseClient.sql(FIND_PROJECTS_AFTER_ID)
+        .bind("id", id)
+        .bind("limit", limit)
+        .map((row, metadata) -> makeProject(row))
+        .all()
+        .collectList();
+  }
+
+  public Mono<List<ProjectEntity>> findProjectsByNamePrefixAfter(
+      String prefix,
+      String name,
+      Long id,
+      int limit) {
+
+    return databaseClient.sql(FIND_PROJECTS_BY_NAME_PREFIX_AFTER)
+        .bind("prefix", escapeLike(prefix) + "%")
+        .bind("name", name)
+        .bind("id", id)
+        .bind("limit", limit)
+        .map((row, metadata) -> makeProject(row))
+        .all()
+        .collectList();
+  }
+
+  public Mono<Long> findProjectListVersion() {
+    return databaseClient.sql(FIND_PROJECT_LIST_VERSION)
+        .map((row, metadata) -> row.get("version", Long.class))
+        .one();
+  }
+
+  /**
+   * Empty when the project doesn't exist.
+   */
+  public Mono<Long> findLastChangeSeqByProjectId(Long projectId) {
+    return databaseClient.sql(FIND_LAST_CHANGE_SEQ_BY_PROJECT_ID)
+        .bind("projectId", projectId)
+        .map((row, metadata) -> row.get("last_change_seq", Long.class))
+        .one();
+  }
+
+  /**
+   * Empty when the project doesn't exist. Returned entities are detached and ordered by rank.
+   */
+  public Mono<List<TaskStateEntity>> findBoardByProjectId(Long projectId) {
+    return databaseClient.sql(FIND_BOARD_BY_PROJECT_ID)
+        .bind("projectId", projectId)
+        .map((row, metadata) -> new BoardRow(
+            row.get("task_state_id", Long.class) == null ? null : makeTaskState(row),
+            row.get("task_id", Long.class) == null ? null : makeTask(row)
+        ))
+        .all()
+        .collectList()
+        .flatMap(rows -> rows.isEmpty() ? Mono.empty() : Mono.just(makeBoard(rows)));
+  }
+
+  @PreDestroy
+  public void close() {
+    connectionPool.dispose();
+  }
+
+  private static List<TaskStateEntity> makeBoard(List<BoardRow> rows) {
+
+    List<TaskStateEntity> board = new ArrayList<>();
+
+    TaskStateEntity currentTaskState = null;
+
+    for (BoardRow row : rows) {
+
+      if (row.taskState == null) {
+        continue;
+      }
+
+      if (currentTaskState == null || !currentTaskState.getId().equals(row.taskState.getId())) {
+        currentTaskState = row.taskState;
+        board.add(currentTaskState);
+      }
+
+      if (row.task != null) {
+        currentTaskState.getTasks().add(row.task);
+      }
+    }
+
+    return board;
+  }
+
+  private static ProjectEntity makeProject(Row row) {
+    return ProjectEntity.builder()
+        .id(row.get("id", Long.class))
+        .name(row.get("name", String.class))
+        .createdAt(getInstant(row, "created_at"))
+        .build();
+  }
+
+  private static TaskStateEntity makeTaskState(Row row) {
+    return TaskStateEntity.builder()
+        .id(row.get("task_state_id", Long.class))
+        .name(row.get("task_state_name", String.class))
+        .createdAt(getInstant(row, "task_state_created_at"))
+        .build();
+  }
+
+  private static TaskEntity makeTask(Row row) {
+    return TaskEntity.builder()
+        .id(row.get("task_id", Long.class))
+        .name(row.get("task_name", String.class))
+        .description(row.get("task_description", String.class))
+        .createdAt(getInstant(row, "task_created_at"))
+        .build();
+  }
+
+  private static Instant getInstant(Row row, String column) {
+
+    LocalDateTime timestamp = row.get(column, LocalDateTime.class);
+
+    return timestamp == null ? null : timestamp.atZone(TIMESTAMP_ZONE).toInstant();
+  }
+
+  private static String escapeLike(String value) {
+    return value
+        .replace("\\", "\\\\")
+        .replace("%", "\\%")
+        .replace("_", "\\_");
+  }
+
+  @RequiredArgsConstructor
+  private static class BoardRow {
+
+    final TaskStateEntity taskState;
+
+    final TaskEntity task;
+  }
+}
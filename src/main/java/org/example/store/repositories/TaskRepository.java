@@ -1,8 +1,207 @@
 package org.example.store.repositories;
 
+import static org.hibernate.annotations.QueryHints.NATIVE_SPACES;
+import static org.hibernate.jpa.QueryHints.HINT_FETCH_SIZE;
+
+import java.time.Instant;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+import java.util.stream.Stream;
+import javax.persistence.QueryHint;
 import org.example.store.entities.TaskEntity;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
 
 public interface TaskRepository extends JpaRepository<TaskEntity, Long> {
 
+  String MOVE_CANDIDATES_TO_ARCHIVE = "moved as (delete from task t "
+      + "using candidates c, task_state ts "
+      + "where t.id = c.id and ts.id = t.task_state_id "
+      + "returning t.id, ts.project_id, t.task_state_id, ts.name as task_state_name, "
+      + "t.name, t.description, t.created_at) "
+      + "insert into task_archive "
+      + "(id, project_id, task_state_id, task_state_name, name, description, created_at) "
+      + "select id, project_id, task_state_id, task_state_name, name, description, created_at "
+      + "from moved "
+      + "returning id as \"id\", project_id as \"projectId\"";
+
+  @QueryHints(@QueryHint(name = HINT_FETCH_SIZE, value = "1000"))
+  @Query("select t from TaskEntity t "
+      + "where t.taskState.project.id = :projectId "
+      + "and t.taskState.deleted = false "
+      + "order by t.taskState.rank, t.id")
+  Stream<TaskEntity> streamAllByProjectId(@Param("projectId") Long projectId);
+
+  // Only the first :maxMatches matches off the GIN index are ranked, so broad queries stay bounded
+  @Query(
+      nativeQuery = true,
+      value = "select m.* from ("
+          + "select t.id as \"id\", t.name as \"name\", t.description as \"description\", "
+          + "t.created_at as \"createdAt\", t.task_state_id as \"taskStateId\", "
+          + "ts.project_id as \"projectId\", ts_rank(t.search_vector, q.query) as \"rank\" "
+          + "from websearch_to_tsquery('english', :query) as q(query) "
+          + "join task t on t.search_vector @@ q.query "
+          + "join task_state ts on ts.id = t.task_state_id and not ts.deleted "
+          + "limit :maxMatches) m "
+          + "order by m.\"rank\" desc, m.\"id\" "
+          + "offset :offset limit :limit"
+  )
+  List<TaskSearchResult> search(
+      @Param("query") String query,
+      @Param("maxMatches") int maxMatches,
+      @Param("offset") int offset,
+      @Param("limit") int limit);
+
+  @Query(
+      nativeQuery = true,
+      value = "select m.* from ("
+          + "select t.id as \"id\", t.name as \"name\", t.description as \"description\", "
+          + "t.created_at as \"createdAt\", t.task_state_id as \"taskStateId\", "
+          + "ts.project_id as \"projectId\", ts_rank(t.search_vector, q.query) as \"rank\" "
+          + "from websearch_to_tsquery('english', :query) as q(query) "
+          + "join task t on t.search_vector @@ q.query "
+          + "join task_state ts on ts.id = t.task_state_id "
+          + "and ts.project_id = :projectId and not ts.deleted "
+          + "limit :maxMatches) m "
+          + "order by m.\"rank\" desc, m.\"id\" "
+          + "offset :offset limit :limit"
+  )
+  List<TaskSearchResult> searchInProject(
+      @Param("projectId") Long projectId,
+      @Param("query") String query,
+      @Param("maxMatches") int maxMatches,
+      @Param("offset") int offset,
+      @Param("limit") int limit);
+
+  // Moves one batch into the archive and returns what moved; locked rows are left to the next batch
+  @Query(
+      nativeQuery = true,
+      value = "with candidates as (select t.id from task t "
+          + "join task_state ts on ts.id = t.task_state_id "
+          + "where not ts.deleted and t.created_at < :cutoff "
+          + "order by t.created_at, t.id "
+          + "limit :batchSize "
+          + "for update of t skip locked), "
+          + MOVE_CANDIDATES_TO_ARCHIVE
+  )
+  List<ArchivedTaskRef> archiveCreatedBefore(
+      @Param("cutoff") Instant cutoff,
+      @Param("batchSize") int batchSize);
+
+  @Query(
+      nativeQuery = true,
+      value = "with candidates as (select t.id from task t "
+          + "join task_state ts on ts.id = t.task_state_id "
+          + "where not ts.deleted and lower(ts.name) in (:taskStateNames) "
+          + "and t.created_at < :cutoff "
+          + "order by t.created_at, t.id "
+          + "limit :batchSize "
+          + "for update of t skip locked), "
+          + MOVE_CANDIDATES_TO_ARCHIVE
+  )
+  List<ArchivedTaskRef> archiveInTaskStatesCreatedBefore(
+      @Param("taskStateNames") Collection<String> taskStateNames,
+      @Param("cutoff") Instant cutoff,
+      @Param("batchSize") int batchSize);
+
+  @Query(
+      nativeQuery = true,
+      value = "select id as \"id\", task_state_id as \"taskStateId\", "
+          + "task_state_name as \"taskStateName\", name as \"name\", "
+          + "description as \"description\", created_at as \"createdAt\", "
+          + "archived_at as \"archivedAt\" "
+          + "from task_archive "
+          + "where project_id = :projectId and id < :beforeId "
+          + "order by id desc "
+          + "limit :limit"
+  )
+  List<ArchivedTask> findArchivedByProjectIdBefore(
+      @Param("projectId") Long projectId,
+      @Param("beforeId") Long beforeId,
+      @Param("limit") int limit);
+
+  @Modifying
+  @QueryHints(@QueryHint(name = NATIVE_SPACES, value = "task_archive"))
+  @Query(
+      nativeQuery = true,
+      value = "delete from task_archive "
+          + "where project_id = :projectId and id in (select id from task_archive "
+          + "where project_id = :projectId "
+          + "order by id "
+          + "limit :batchSize)"
+  )
+  int deleteArchivedBatchByProjectId(
+      @Param("projectId") Long projectId,
+      @Param("batchSize") int batchSize);
+
+  @Query("select t from TaskEntity t join fetch t.taskState ts "
+      + "where t.id = :id and ts.deleted = false")
+  Optional<TaskEntity> findLiveById(@Param("id") Long id);
+
+  long countByTaskStateId(Long taskStateId);
+
+  @Query(
+      nativeQuery = true,
+      value = "select count(*) from task t "
+          + "join task_state ts on ts.id = t.task_state_id "
+          + "where ts.project_id = :projectId"
+  )
+  long countAllByProjectId(@Param("projectId") Long projectId);
+
+  @Modifying
+  @QueryHints(@QueryHint(name = NATIVE_SPACES, value = "task"))
+  @Query(
+      nativeQuery = true,
+      value = "delete from task where id in (select id from task "
+          + "where task_state_id = :taskStateId "
+          + "limit :batchSize)"
+  )
+  int deleteBatchByTaskStateId(
+      @Param("taskStateId") Long taskStateId,
+      @Param("batchSize") int batchSize);
+
+  interface TaskSearchResult {
+
+    Long getId();
+
+    String getName();
+
+    String getDescription();
+
+    Instant getCreatedAt();
+
+    Long getTaskStateId();
+
+    Long getProjectId();
+
+    Float getRank();
+  }
+
+  interface ArchivedTaskRef {
+
+    Long getId();
+
+    Long getProjectId();
+  }
+
+  interface ArchivedTask {
+
+    Long getId();
+
+    Long getTaskStateId();
+
+    String getTaskStateName();
+
+    String getName();
+
+    String getDescription();
+
+    Instant getCreatedAt();
+
+    Instant getArchivedAt();
+  }
 }
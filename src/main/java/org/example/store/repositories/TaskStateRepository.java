@@ -1,11 +1,100 @@
 package org.example.store.repositories;
 
+import static org.hibernate.annotations.QueryHints.NATIVE_SPACES;
+import static org.hibernate.jpa.QueryHints.HINT_PASS_DISTINCT_THROUGH;
+
+import java.time.Instant;
+import java.util.List;
 import java.util.Optional;
+import javax.persistence.QueryHint;
 import org.example.store.entities.TaskStateEntity;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
 
 public interface TaskStateRepository extends JpaRepository<TaskStateEntity, Long> {
 
-  Optional<TaskStateEntity> findTaskStateEntityByProjectIdAndNameContainsIgnoreCase(Long id,
-      String taskStateName);
+  List<TaskStateEntity> findAllByProjectIdOrderByRankAsc(Long projectId);
+
+  @QueryHints(@QueryHint(name = HINT_PASS_DISTINCT_THROUGH, value = "false"))
+  @Query("select distinct ts from TaskStateEntity ts left join fetch ts.tasks t "
+      + "where ts.project.id = :projectId "
+      + "order by ts.rank, t.id")
+  List<TaskStateEntity> findBoardByProjectId(@Param("projectId") Long projectId);
+
+  @Query("select ts.id as id, ts.name as name, ts.createdAt as createdAt "
+      + "from TaskStateEntity ts "
+      + "where ts.project.id = :projectId "
+      + "order by ts.rank")
+  List<TaskStateSummary> findSummariesByProjectId(@Param("projectId") Long projectId);
+
+  @Query("select ts.id from TaskStateEntity ts where ts.project.id = :projectId order by ts.rank")
+  List<Long> findIdsByProjectIdOrderByRankAsc(@Param("projectId") Long projectId);
+
+  Optional<TaskStateEntity> findFirstByProjectIdOrderByRankAsc(Long projectId);
+
+  Optional<TaskStateEntity> findFirstByProjectIdOrderByRankDesc(Long projectId);
+
+  Optional<TaskStateEntity> findFirstByProjectIdAndRankLessThanOrderByRankDesc(Long projectId,
+      Long rank);
+
+  Optional<TaskStateEntity> findFirstByProjectIdAndRankGreaterThanOrderByRankAsc(Long projectId,
+      Long rank);
+
+  @Query("select ts.rank from TaskStateEntity ts where ts.id = :id")
+  Long findRankById(@Param("id") Long id);
+
+  // Not cleared automatically: that would detach the moved task state the caller still re-ranks
+  @Modifying(flushAutomatically = true)
+  @QueryHints(@QueryHint(name = NATIVE_SPACES, value = "task_state"))
+  @Query(
+      nativeQuery = true,
+      value = "update task_state ts set rank = ordered.position * :step "
+          + "from (select id, row_number() over (order by rank, id) as position "
+          + "from task_state where project_id = :projectId) ordered "
+          + "where ts.id = ordered.id"
+  )
+  void rebalanceRanks(@Param("projectId") Long projectId, @Param("step") Long step);
+
+  @Modifying(flushAutomatically = true)
+  @QueryHints(@QueryHint(name = NATIVE_SPACES, value = "task_state"))
+  @Query(
+      nativeQuery = true,
+      value = "update task_state set deleted = true where project_id = :projectId and not deleted"
+  )
+  int markDeletedByProjectId(@Param("projectId") Long projectId);
+
+  // Native so deleted rows are seen too, they are hidden from entity queries
+  @Query(nativeQuery = true, value = "select deleted from task_state where id = :id")
+  Optional<Boolean> findDeletedById(@Param("id") Long id);
+
+  @Query(
+      nativeQuery = true,
+      value = "select id from task_state where deleted order by id limit :limit"
+  )
+  List<Long> findDeletedIds(@Param("limit") int limit);
+
+  @Query(nativeQuery = true, value = "select count(*) from task_state where project_id = :projectId")
+  long countAllByProjectId(@Param("projectId") Long projectId);
+
+  @Modifying
+  @QueryHints(@QueryHint(name = NATIVE_SPACES, value = "task_state"))
+  @Query(
+      nativeQuery = true,
+      value = "delete from task_state ts "
+          + "where ts.id = :id and ts.deleted "
+          + "and not exists (select 1 from task t where t.task_state_id = ts.id)"
+  )
+  int deletePurgedById(@Param("id") Long id);
+
+  interface TaskStateSummary {
+
+    Long getId();
+
+    String getName();
+
+    Instant getCreatedAt();
+  }
 }
@@ -0,0 +1,118 @@
+drop index if exists project_name_lower_uindex;
+
+-- A deleted project keeps its row until purged, its name can be reused right away
+create unique index if not exists project_name_lower_live_uindex
+    on project (lower(name)) where not deleted;
+
+-- Older schemas also got a plain unique constraint on project.name from Hibernate
+do '
+declare
+  unique_name text;
+begin
+  for unique_name in
+    select c.conname from pg_constraint c
+    join pg_attribute a on a.attrelid = c.conrelid and a.attnum = any (c.conkey)
+    where c.conrelid = ''project''::regclass and c.contype = ''u'' and a.attname = ''name''
+  loop
+    execute format(''alter table project drop constraint %I'', unique_name);
+  end loop;
+end';
+
+-- Serves name prefix pages, which are ordered by code point to match ProjectNameIndex
+create index if not exists project_name_lower_c_id_index
+    on project ((lower(name) collate "C"), id) where not deleted;
+
+drop index if exists task_state_project_id_name_lower_uindex;
+
+-- A deleted task state keeps its row until purged, its name can be reused right away
+create unique index if not exists task_state_project_id_name_lower_live_uindex
+    on task_state (project_id, lower(name)) where not deleted;
+
+-- Boards used to be a linked list of task states, rank them in list order and drop the links.
+-- The step is TaskStateRankHelper.RANK_STEP
+do '
+begin
+  if exists (
+    select 1 from information_schema.columns
+    where table_name = ''task_state'' and column_name = ''left_task_state_id''
+  ) then
+    with recursive chain (id, position) as (
+      select id, 1 from task_state where left_task_state_id is null and rank is null
+      union all
+      select ts.id, chain.position + 1 from task_state ts
+      join chain on ts.left_task_state_id = chain.id
+      where ts.rank is null
+    )
+    update task_state ts set rank = chain.position * 1048576
+    from chain where ts.id = chain.id;
+
+    alter table task_state
+        drop column left_task_state_id,
+        drop column if exists right_task_state_id;
+  end if;
+end';
+
+-- Anything the links did not reach goes to the end of its board
+update task_state ts set rank = unranked.rank
+from (
+    select u.id,
+        (select coalesce(max(r.rank), 0) from task_state r where r.project_id = u.project_id)
+            + row_number() over (partition by u.project_id order by u.id) * 1048576 as rank
+    from task_state u
+    where u.rank is null
+) unranked
+where ts.id = unranked.id;
+
+alter table task_state alter column rank set not null;
+
+alter table project add column if not exists last_change_seq bigint not null default 0;
+
+alter table project add column if not exists change_log_min_seq bigint not null default 0;
+
+-- Bumped by every transaction that changes the project list, the list ETag is derived from it
+create table if not exists project_list_version (
+    id      int    primary key check (id = 1),
+    version bigint not null
+);
+
+insert into project_list_version (id, version) values (1, 0) on conflict do nothing;
+
+alter table task add column if not exists search_vector tsvector
+    generated always as (
+        setweight(to_tsvector('english', coalesce(name, '')), 'A')
+            || setweight(to_tsvector('english', coalesce(description, '')), 'B')
+    ) stored;
+
+create index if not exists task_search_vector_index
+    on task using gin (search_vector);
+
+create table if not exists task_archive (
+    id              bigint       not null,
+    project_id      bigint       not null,
+    task_state_id   bigint,
+    task_state_name varchar(255),
+    name            varchar(255),
+    description     varchar(255),
+    created_at      timestamp,
+    archived_at     timestamp    not null default now(),
+    primary key (project_id, id)
+) partition by hash (project_id);
+
+create table if not exists task_archive_p0 partition of task_archive for values with (modulus 8, remainder 0);
+
+create table if not exists task_archive_p1 partition of task_archive for values with (modulus 8, remainder 1);
+
+create table if not exists task_archive_p2 partition of task_archive for values with (modulus 8, remainder 2);
+
+create table if not exists task_archive_p3 partition of task_archive for values with (modulus 8, remainder 3);
+
+create table if not exists task_archive_p4 partition of task_archive for values with (modulus 8, remainder 4);
+
+create table if not exists task_archive_p5 partition of task_archive for values with (modulus 8, remainder 5);
+
+create table if not exists task_archive_p6 partition of task_archive for values with (modulus 8, remainder 6);
+
+create table if not exists task_archive_p7 partition of task_archive for values with (modulus 8, remainder 7);
+
+create index if not exists task_created_at_index
+    on task (created_at);
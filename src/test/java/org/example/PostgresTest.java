@@ -0,0 +1,43 @@
+package org.example;
+
+import io.zonky.test.db.postgres.embedded.EmbeddedPostgres;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+
+/**
+ * Boots the application against an embedded Postgres shared by every test class. Tests create
+ * their own uniquely named projects instead of cleaning up.
+ */
+@SpringBootTest
+public abstract class PostgresTest {
+
+  private static final EmbeddedPostgres POSTGRES = startPostgres();
+
+  @DynamicPropertySource
+  static void postgresProperties(DynamicPropertyRegistry registry) {
+    registry.add("spring.datasource.url", () -> POSTGRES.getJdbcUrl("postgres", "postgres"));
+    registry.add("spring.datasource.username", () -> "postgres");
+    registry.add("spring.datasource.password", () -> "postgres");
+  }
+
+  private static EmbeddedPostgres startPostgres() {
+    try {
+      EmbeddedPostgres postgres = EmbeddedPostgres.builder().start();
+
+      Runtime.getRuntime().addShutdownHook(new Thread(() -> {
+        try {
+          postgres.close();
+        } catch (IOException ignored) {
+          // The process is exiting anyway
+        }
+      }));
+
+      return postgres;
+    } catch (IOException ex) {
+      throw new UncheckedIOException(ex);
+    }
+  }
+}
@@ -0,0 +1,124 @@
+package org.example.api.admission;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+import org.junit.jupiter.api.Test;
+
+class AdaptiveLimiterTest {
+
+  private static final long FAST_NANOS = TimeUnit.MILLISECONDS.toNanos(1);
+
+  private static final long SLOW_NANOS = TimeUnit.SECONDS.toNanos(1);
+
+  private static final Duration LATENCY_TARGET = Duration.ofMillis(100);
+
+  @Test
+  void rejectsRightAwayWhenTheQueueIsFull() throws Exception {
+
+    AdaptiveLimiter limiter = new AdaptiveLimiter(limits(2, 1, 4, 0, Duration.ofSeconds(10)));
+
+    assertTrue(limiter.acquire());
+    assertTrue(limiter.acquire());
+
+    long start = System.nanoTime();
+
+    assertFalse(limiter.acquire());
+    assertTrue(System.nanoTime() - start < TimeUnit.SECONDS.toNanos(1));
+    assertEquals(2, limiter.getInFlight());
+  }
+
+  @Test
+  void rejectsAWaiterAfterMaxWait() throws Exception {
+
+    AdaptiveLimiter limiter = new AdaptiveLimiter(limits(1, 1, 1, 1, Duration.ofMillis(50)));
+
+    assertTrue(limiter.acquire());
+    assertFalse(limiter.acquire());
+    assertEquals(0, limiter.getWaiting());
+  }
+
+  @Test
+  void admitsAWaiterWhenASlotIsReleased() throws Exception {
+
+    AdaptiveLimiter limiter = new AdaptiveLimiter(limits(1, 1, 1, 1, Duration.ofSeconds(10)));
+
+    assertTrue(limiter.acquire());
+
+    CompletableFuture<Boolean> waiter = CompletableFuture.supplyAsync(() -> {
+      try {
+        return limiter.acquire();
+      } catch (InterruptedException ex) {
+        throw new IllegalStateException(ex);
+      }
+    });
+
+    while (limiter.getWaiting() == 0) {
+      Thread.onSpinWait();
+    }
+
+    limiter.release(FAST_NANOS);
+
+    assertTrue(waiter.get(5, TimeUnit.SECONDS));
+    assertEquals(1, limiter.getInFlight());
+  }
+
+  @Test
+  void shrinksOnSlowResponsesAtMostOncePerTargetDownToTheMinimum() throws Exception {
+
+    AdaptiveLimiter limiter = new AdaptiveLimiter(limits(10, 8, 20, 0, Duration.ZERO));
+
+    assertTrue(limiter.acquire());
+    limiter.release(SLOW_NANOS);
+
+    assertEquals(9, limiter.getLimit());
+
+    assertTrue(limiter.acquire());
+    limiter.release(SLOW_NANOS);
+
+    assertEquals(9, limiter.getLimit());
+
+    for (int i = 0; i < 3; i++) {
+      Thread.sleep(LATENCY_TARGET.toMillis() + 10);
+      assertTrue(limiter.acquire());
+      limiter.release(SLOW_NANOS);
+    }
+
+    assertEquals(8, limiter.getLimit());
+  }
+
+  @Test
+  void growsOnlyWhileSaturatedAndFast() throws Exception {
+
+    AdaptiveLimiter limiter = new AdaptiveLimiter(limits(2, 1, 3, 0, Duration.ZERO));
+
+    assertTrue(limiter.acquire());
+    limiter.release(FAST_NANOS);
+
+    assertEquals(2, limiter.getLimit());
+
+    for (int i = 0; i < 10; i++) {
+      assertTrue(limiter.acquire());
+      assertTrue(limiter.acquire());
+      limiter.release(FAST_NANOS);
+      limiter.release(FAST_NANOS);
+    }
+
+    assertEquals(3, limiter.getLimit());
+  }
+
+  private static AdmissionProperties.Limits limits(
+      int initialLimit,
+      int minLimit,
+      int maxLimit,
+      int maxQueue,
+      Duration maxWait) {
+
+    return new AdmissionProperties.Limits(
+        initialLimit, minLimit, maxLimit, maxQueue, maxWait, LATENCY_TARGET);
+  }
+}
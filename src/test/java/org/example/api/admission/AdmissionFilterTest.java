@@ -0,0 +1,153 @@
+package org.example.api.admission;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.io.IOException;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import javax.servlet.FilterChain;
+import javax.servlet.ServletException;
+import javax.servlet.http.HttpServletResponse;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+
+class AdmissionFilterTest {
+
+  private MeterRegistry meterRegistry;
+
+  private AdmissionFilter admissionFilter;
+
+  @BeforeEach
+  void setUp() {
+
+    AdmissionProperties admissionProperties = new AdmissionProperties();
+    admissionProperties.setRetryAfter(Duration.ofSeconds(3));
+    admissionProperties.setReads(singleSlot());
+    admissionProperties.setWrites(singleSlot());
+    admissionProperties.setBulkWrites(singleSlot());
+
+    meterRegistry = new SimpleMeterRegistry();
+    admissionFilter = new AdmissionFilter(admissionProperties, meterRegistry);
+  }
+
+  @Test
+  void rejectsAWriteOverTheLimitWithRetryAfter() throws Exception {
+
+    MockHttpServletResponse nested = new MockHttpServletResponse();
+
+    MockHttpServletResponse outer = filter(
+        request("POST", "/api/projects"),
+        (request, response) -> filter(request("PATCH", "/api/projects/1"), nested, passThrough()));
+
+    assertEquals(HttpServletResponse.SC_OK, outer.getStatus());
+    assertEquals(HttpServletResponse.SC_SERVICE_UNAVAILABLE, nested.getStatus());
+    assertEquals("3", nested.getHeader(HttpHeaders.RETRY_AFTER));
+    assertEquals(1.0, rejected("writes"));
+  }
+
+  @Test
+  void admitsBulkWritesThroughTheirOwnLimiter() throws Exception {
+
+    List<Integer> statuses = new ArrayList<>();
+
+    // A regular write holds the only write slot while an import and a bulk creation come in
+    filter(request("POST", "/api/projects"), (request, response) -> {
+
+      statuses.add(filter(request("POST", "/api/projects/import"), (importRequest, importResponse) ->
+          statuses.add(filter(request("POST", "/api/task-states/7/tasks/bulk"), passThrough())
+              .getStatus())
+      ).getStatus());
+
+      statuses.add(filter(request("DELETE", "/api/tasks/3"), passThrough()).getStatus());
+    });
+
+    assertEquals(
+        List.of(
+            HttpServletResponse.SC_SERVICE_UNAVAILABLE,
+            HttpServletResponse.SC_OK,
+            HttpServletResponse.SC_SERVICE_UNAVAILABLE),
+        statuses);
+    assertEquals(1.0, rejected("bulk_writes"));
+    assertEquals(1.0, rejected("writes"));
+  }
+
+  @Test
+  void limitsBoardReadsButNotStreamsOrOtherReads() throws Exception {
+
+    List<Integer> statuses = new ArrayList<>();
+
+    filter(request("GET", "/api/projects/5/task-states"), (request, response) -> {
+
+      MockHttpServletRequest export = request("GET", "/api/projects");
+      export.addHeader(HttpHeaders.ACCEPT, MediaType.APPLICATION_NDJSON_VALUE);
+
+      statuses.add(filter(export, passThrough()).getStatus());
+      statuses.add(filter(request("GET", "/api/tasks/search"), passThrough()).getStatus());
+      statuses.add(filter(request("GET", "/api/projects"), passThrough()).getStatus());
+    });
+
+    assertEquals(
+        List.of(
+            HttpServletResponse.SC_OK,
+            HttpServletResponse.SC_OK,
+            HttpServletResponse.SC_SERVICE_UNAVAILABLE),
+        statuses);
+    assertEquals(1.0, rejected("reads"));
+  }
+
+  @Test
+  void releasesTheSlotWhenTheHandlerFails() throws Exception {
+
+    assertThrows(IllegalStateException.class, () ->
+        filter(request("POST", "/api/projects"), (request, response) -> {
+          throw new IllegalStateException("handler failed");
+        }));
+
+    assertEquals(HttpServletResponse.SC_OK,
+        filter(request("POST", "/api/projects"), passThrough()).getStatus());
+    assertEquals(0.0, meterRegistry.get("admission.in_flight").tag("class", "writes").gauge().value());
+  }
+
+  private MockHttpServletResponse filter(MockHttpServletRequest request, FilterChain filterChain)
+      throws ServletException, IOException {
+
+    MockHttpServletResponse response = new MockHttpServletResponse();
+
+    filter(request, response, filterChain);
+
+    return response;
+  }
+
+  private void filter(
+      MockHttpServletRequest request,
+      MockHttpServletResponse response,
+      FilterChain filterChain) throws ServletException, IOException {
+    admissionFilter.doFilter(request, response, filterChain);
+  }
+
+  private double rejected(String requestClass) {
+    return meterRegistry.get("admission.rejected").tag("class", requestClass).counter().count();
+  }
+
+  private static FilterChain passThrough() {
+    return (request, response) -> {
+    };
+  }
+
+  private static MockHttpServletRequest request(String method, String path) {
+    return new MockHttpServletRequest(method, path);
+  }
+
+  private static AdmissionProperties.Limits singleSlot() {
+    return new AdmissionProperties.Limits(
+        1, 1, 1, 0, Duration.ZERO, Duration.ofSeconds(10));
+  }
+}
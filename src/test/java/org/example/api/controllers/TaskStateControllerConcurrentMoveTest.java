@@ -0,0 +1,163 @@
+package org.example.api.controllers;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Collectors;
+import javax.persistence.EntityManagerFactory;
+import org.example.PostgresTest;
+import org.example.api.dto.TaskStateDto;
+import org.example.api.exceptions.ConflictException;
+import org.example.store.entities.TaskStateEntity;
+import org.example.store.repositories.ProjectRepository;
+import org.example.store.repositories.TaskStateRepository;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.converter.json.MappingJacksonValue;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.web.context.request.ServletWebRequest;
+
+class TaskStateControllerConcurrentMoveTest extends PostgresTest {
+
+  private static final int TASK_STATES = 8;
+
+  private static final int MOVES = 400;
+
+  private static final int THREADS = 32;
+
+  @Autowired
+  ProjectController projectController;
+
+  @Autowired
+  TaskStateController taskStateController;
+
+  @Autowired
+  ProjectRepository projectRepository;
+
+  @Autowired
+  TaskStateRepository taskStateRepository;
+
+  @Autowired
+  EntityManagerFactory entityManagerFactory;
+
+  @Test
+  void boardStaysConsistentUnderParallelMoves() throws Exception {
+
+    Long projectId = projectController
+        .createProject("moves-" + UUID.randomUUID(), Optional.empty())
+        .getId();
+
+    List<Long> taskStateIds = new ArrayList<>();
+    for (int i = 0; i < TASK_STATES; i++) {
+      taskStateIds.add(taskStateController
+          .createTaskSate(projectId, "state-" + i, Optional.empty())
+          .getId());
+    }
+
+    Long anchorId = taskStateIds.get(0);
+    long initialVersion = findProjectVersion(projectId);
+
+    AtomicInteger moved = new AtomicInteger();
+    AtomicInteger conflicts = new AtomicInteger();
+
+    ExecutorService executor = Executors.newFixedThreadPool(THREADS);
+
+    try {
+      List<Callable<Void>> moves = new ArrayList<>(MOVES);
+
+      for (int i = 0; i < MOVES; i++) {
+        moves.add(() -> {
+
+          ThreadLocalRandom random = ThreadLocalRandom.current();
+
+          Long taskStateId = taskStateIds.get(random.nextInt(1, TASK_STATES));
+
+          // Most moves go right after the same column, halving one gap until it is rebalanced
+          Optional<Long> optionalLeftTaskStateId = random.nextInt(3) > 0
+              ? Optional.of(anchorId)
+              : Optional.of(taskStateIds.get(random.nextInt(TASK_STATES)))
+                  .filter(leftTaskStateId -> !leftTaskStateId.equals(taskStateId));
+
+          try {
+            taskStateController.changeTaskStatePosition(taskStateId, optionalLeftTaskStateId);
+            moved.incrementAndGet();
+          } catch (ConflictException ex) {
+            conflicts.incrementAndGet();
+          }
+
+          return null;
+        });
+      }
+
+      for (Future<Void> future : executor.invokeAll(moves)) {
+        future.get();
+      }
+    } finally {
+      executor.shutdownNow();
+    }
+
+    assertEquals(MOVES, moved.get() + conflicts.get());
+    assertTrue(moved.get() > MOVES / 2, () -> "only " + moved.get() + " moves succeeded");
+
+    // Moves are fenced per task state, the project row is left alone for concurrent edits
+    assertEquals(initialVersion, findProjectVersion(projectId));
+
+    entityManagerFactory.getCache().evictAll();
+
+    List<TaskStateEntity> board = taskStateRepository.findAllByProjectIdOrderByRankAsc(projectId);
+
+    assertEquals(
+        taskStateIds.stream().sorted().collect(Collectors.toList()),
+        board.stream().map(TaskStateEntity::getId).sorted().collect(Collectors.toList()));
+
+    for (int i = 1; i < board.size(); i++) {
+      assertTrue(
+          board.get(i - 1).getRank() < board.get(i).getRank(),
+          "ranks must be distinct and ordered");
+    }
+
+    assertLinksFollowRanks(projectId, board);
+  }
+
+  @SuppressWarnings("unchecked")
+  private void assertLinksFollowRanks(Long projectId, List<TaskStateEntity> board) {
+
+    MappingJacksonValue value = taskStateController.getTaskStates(
+        projectId,
+        false,
+        Optional.empty(),
+        new ServletWebRequest(new MockHttpServletRequest()));
+
+    List<TaskStateDto> taskStates = (List<TaskStateDto>) value.getValue();
+
+    assertEquals(board.size(), taskStates.size());
+
+    for (int i = 0; i < board.size(); i++) {
+
+      TaskStateDto taskState = taskStates.get(i);
+
+      assertEquals(board.get(i).getId(), taskState.getId());
+      assertEquals(i > 0 ? board.get(i - 1).getId() : null, taskState.getLeftTaskStateId());
+      assertEquals(
+          i < board.size() - 1 ? board.get(i + 1).getId() : null,
+          taskState.getRightTaskStateId());
+    }
+  }
+
+  private long findProjectVersion(Long projectId) {
+
+    entityManagerFactory.getCache().evictAll();
+
+    return projectRepository.findById(projectId).orElseThrow().getVersion();
+  }
+}
@@ -0,0 +1,125 @@
+package org.example.api.controllers;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.stream.Collectors;
+import org.example.PostgresTest;
+import org.example.api.dto.TaskStateDto;
+import org.example.api.dto.TaskStateOperationDto;
+import org.example.api.dto.TaskStateOperationDto.Type;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+
+class TaskStateControllerOperationsTest extends PostgresTest {
+
+  @Autowired
+  ProjectController projectController;
+
+  @Autowired
+  TaskStateController taskStateController;
+
+  @Test
+  void renameChainThroughTemporaryName() {
+
+    Long projectId = createProject();
+
+    // The first renamed task state has the lower id, so id-ordered updates would collide
+    Long aId = createTaskState(projectId, "a");
+    Long bId = createTaskState(projectId, "b");
+
+    List<TaskStateDto> board = taskStateController.applyTaskStateOperations(projectId, List.of(
+        rename(aId, "tmp"),
+        rename(bId, "a"),
+        rename(aId, "b")
+    ));
+
+    assertEquals(List.of(aId, bId), ids(board));
+    assertEquals(List.of("b", "a"), names(board));
+  }
+
+  @Test
+  void deletedNameIsReusedInTheSameBatch() {
+
+    Long projectId = createProject();
+
+    Long keptId = createTaskState(projectId, "kept");
+    Long deletedId = createTaskState(projectId, "deleted");
+
+    List<TaskStateDto> board = taskStateController.applyTaskStateOperations(projectId, List.of(
+        delete(deletedId),
+        rename(keptId, "deleted")
+    ));
+
+    assertEquals(List.of(keptId), ids(board));
+    assertEquals(List.of("deleted"), names(board));
+  }
+
+  @Test
+  void leftAnchorIsDeletedAfterMove() {
+
+    Long projectId = createProject();
+
+    Long firstId = createTaskState(projectId, "first");
+    Long secondId = createTaskState(projectId, "second");
+    Long thirdId = createTaskState(projectId, "third");
+
+    List<TaskStateDto> board = taskStateController.applyTaskStateOperations(projectId, List.of(
+        move(thirdId, firstId),
+        delete(firstId)
+    ));
+
+    assertEquals(List.of(thirdId, secondId), ids(board));
+
+    assertNull(board.get(0).getLeftTaskStateId());
+    assertEquals(secondId, board.get(0).getRightTaskStateId());
+    assertEquals(thirdId, board.get(1).getLeftTaskStateId());
+    assertNull(board.get(1).getRightTaskStateId());
+  }
+
+  private Long createProject() {
+    return projectController
+        .createProject("operations-" + UUID.randomUUID(), Optional.empty())
+        .getId();
+  }
+
+  private Long createTaskState(Long projectId, String name) {
+    return taskStateController
+        .createTaskSate(projectId, name, Optional.empty())
+        .getId();
+  }
+
+  private static TaskStateOperationDto rename(Long taskStateId, String taskStateName) {
+    return TaskStateOperationDto.builder()
+        .type(Type.RENAME)
+        .taskStateId(taskStateId)
+        .taskStateName(taskStateName)
+        .build();
+  }
+
+  private static TaskStateOperationDto move(Long taskStateId, Long leftTaskStateId) {
+    return TaskStateOperationDto.builder()
+        .type(Type.MOVE)
+        .taskStateId(taskStateId)
+        .leftTaskStateId(leftTaskStateId)
+        .build();
+  }
+
+  private static TaskStateOperationDto delete(Long taskStateId) {
+    return TaskStateOperationDto.builder()
+        .type(Type.DELETE)
+        .taskStateId(taskStateId)
+        .build();
+  }
+
+  private static List<Long> ids(List<TaskStateDto> board) {
+    return board.stream().map(TaskStateDto::getId).collect(Collectors.toList());
+  }
+
+  private static List<String> names(List<TaskStateDto> board) {
+    return board.stream().map(TaskStateDto::getName).collect(Collectors.toList());
+  }
+}
@@ -0,0 +1,91 @@
+package org.example.api.controllers;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+import javax.persistence.EntityManagerFactory;
+import org.example.PostgresTest;
+import org.example.api.dto.NewTaskDto;
+import org.example.api.dto.TaskStateDto;
+import org.example.api.metrics.RequestStatistics;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.converter.json.MappingJacksonValue;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.web.context.request.ServletWebRequest;
+
+class TaskStateControllerStatementCountTest extends PostgresTest {
+
+  @Autowired
+  ProjectController projectController;
+
+  @Autowired
+  TaskStateController taskStateController;
+
+  @Autowired
+  TaskController taskController;
+
+  @Autowired
+  EntityManagerFactory entityManagerFactory;
+
+  @Test
+  void getTaskStatesRunsTheSameStatementsForAnyBoardSize() {
+
+    Long smallBoardId = createBoard(1, 1);
+    Long largeBoardId = createBoard(30, 50);
+
+    RequestStatistics.Captured<MappingJacksonValue> small = captureGetTaskStates(smallBoardId);
+    RequestStatistics.Captured<MappingJacksonValue> large = captureGetTaskStates(largeBoardId);
+
+    assertEquals(1, countTasks(small.getResult()));
+    assertEquals(30 * 50, countTasks(large.getResult()));
+    assertEquals(
+        small.getStatistics().getStatements(),
+        large.getStatistics().getStatements(),
+        () -> "small board: " + small.getStatistics() + ", large board: " + large.getStatistics());
+  }
+
+  private RequestStatistics.Captured<MappingJacksonValue> captureGetTaskStates(Long projectId) {
+
+    entityManagerFactory.getCache().evictAll();
+
+    return RequestStatistics.capture(() -> taskStateController.getTaskStates(
+        projectId,
+        true,
+        Optional.empty(),
+        new ServletWebRequest(new MockHttpServletRequest())));
+  }
+
+  private Long createBoard(int taskStates, int tasksPerTaskState) {
+
+    Long projectId = projectController
+        .createProject("board-" + UUID.randomUUID(), Optional.empty())
+        .getId();
+
+    for (int i = 0; i < taskStates; i++) {
+
+      Long taskStateId = taskStateController
+          .createTaskSate(projectId, "state-" + i, Optional.empty())
+          .getId();
+
+      List<NewTaskDto> newTasks = IntStream.range(0, tasksPerTaskState)
+          .mapToObj(j -> NewTaskDto.builder().name("task-" + j).build())
+          .collect(Collectors.toList());
+
+      taskController.createTasks(taskStateId, newTasks);
+    }
+
+    return projectId;
+  }
+
+  @SuppressWarnings("unchecked")
+  private static int countTasks(MappingJacksonValue value) {
+    return ((List<TaskStateDto>) value.getValue()).stream()
+        .mapToInt(taskState -> taskState.getTasks().size())
+        .sum();
+  }
+}
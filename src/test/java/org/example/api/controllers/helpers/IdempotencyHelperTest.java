@@ -0,0 +1,114 @@
+package org.example.api.controllers.helpers;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.example.PostgresTest;
+import org.example.api.controllers.ProjectController;
+import org.example.api.dto.ProjectDto;
+import org.example.api.exceptions.BadRequestException;
+import org.example.api.exceptions.ConflictException;
+import org.example.api.metrics.RequestStatistics;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+
+class IdempotencyHelperTest extends PostgresTest {
+
+  @Autowired
+  IdempotencyHelper idempotencyHelper;
+
+  @Autowired
+  ProjectController projectController;
+
+  @Test
+  void replaysTheFirstResponseWithoutTouchingTheDatabase() {
+
+    String name = "idempotent-" + UUID.randomUUID();
+    Optional<String> key = Optional.of(UUID.randomUUID().toString());
+
+    ProjectDto created = projectController.createProject(name, key);
+
+    RequestStatistics.Captured<ProjectDto> replayed = RequestStatistics.capture(() ->
+        projectController.createProject(name, key));
+
+    assertEquals(created, replayed.getResult());
+    assertEquals(0, replayed.getStatistics().getStatements());
+  }
+
+  @Test
+  void rejectsAKeyReusedForADifferentRequest() {
+
+    Optional<String> key = Optional.of(UUID.randomUUID().toString());
+
+    projectController.createProject("idempotent-" + UUID.randomUUID(), key);
+
+    assertThrows(BadRequestException.class, () ->
+        projectController.createProject("idempotent-" + UUID.randomUUID(), key));
+  }
+
+  @Test
+  void rejectsAKeyStillInFlightAndReplaysItOnceDone() throws Exception {
+
+    Optional<String> key = Optional.of(UUID.randomUUID().toString());
+
+    CountDownLatch started = new CountDownLatch(1);
+    CountDownLatch release = new CountDownLatch(1);
+    AtomicInteger runs = new AtomicInteger();
+
+    CompletableFuture<String> first = CompletableFuture.supplyAsync(() ->
+        idempotencyHelper.execute("TEST", key, "fingerprint", String.class, () -> {
+
+          runs.incrementAndGet();
+          started.countDown();
+
+          try {
+            release.await(10, TimeUnit.SECONDS);
+          } catch (InterruptedException ex) {
+            Thread.currentThread().interrupt();
+          }
+
+          return "created";
+        }));
+
+    assertTrue(started.await(10, TimeUnit.SECONDS));
+
+    assertThrows(ConflictException.class, () ->
+        idempotencyHelper.execute("TEST", key, "fingerprint", String.class, () -> {
+          runs.incrementAndGet();
+          return "duplicate";
+        }));
+
+    release.countDown();
+
+    assertEquals("created", first.get(10, TimeUnit.SECONDS));
+    assertEquals(
+        "created",
+        idempotencyHelper.execute("TEST", key, "fingerprint", String.class, () -> {
+          runs.incrementAndGet();
+          return "duplicate";
+        }));
+    assertEquals(1, runs.get());
+  }
+
+  @Test
+  void runsAgainAfterAFailedAttempt() {
+
+    Optional<String> key = Optional.of(UUID.randomUUID().toString());
+
+    assertThrows(IllegalStateException.class, () ->
+        idempotencyHelper.execute("TEST", key, "fingerprint", String.class, () -> {
+          throw new IllegalStateException("create failed");
+        }));
+
+    assertEquals(
+        "created",
+        idempotencyHelper.execute("TEST", key, "fingerprint", String.class, () -> "created"));
+  }
+}
@@ -0,0 +1,108 @@
+package org.example.api.controllers.helpers;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import java.time.Duration;
+import java.util.Optional;
+import java.util.UUID;
+import org.example.PostgresTest;
+import org.example.api.controllers.ProjectController;
+import org.example.api.controllers.TaskStateController;
+import org.example.api.dto.TaskStateDto;
+import org.example.store.entities.ProjectEntity;
+import org.example.store.repositories.IdempotencyKeyRepository;
+import org.example.store.repositories.ProjectRepository;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.test.context.TestPropertySource;
+import org.springframework.transaction.PlatformTransactionManager;
+
+@TestPropertySource(properties = "task-tracker.idempotency.persistent=true")
+class PersistentIdempotencyHelperTest extends PostgresTest {
+
+  @Autowired
+  IdempotencyHelper idempotencyHelper;
+
+  @Autowired
+  IdempotencyKeyRepository idempotencyKeyRepository;
+
+  @Autowired
+  ProjectRepository projectRepository;
+
+  @Autowired
+  ProjectController projectController;
+
+  @Autowired
+  TaskStateController taskStateController;
+
+  @Autowired
+  ObjectMapper objectMapper;
+
+  @Autowired
+  OptimisticRetryHelper optimisticRetryHelper;
+
+  @Autowired
+  PlatformTransactionManager transactionManager;
+
+  @Test
+  void completesTheKeyWithTheCreateAndReplaysItOnAnotherInstance() {
+
+    Long projectId = projectController
+        .createProject("persistent-" + UUID.randomUUID(), Optional.empty())
+        .getId();
+
+    String key = UUID.randomUUID().toString();
+
+    TaskStateDto created = taskStateController.createTaskSate(projectId, "todo", Optional.of(key));
+
+    String id = "POST " + TaskStateController.CREATE_TASK_STATE + " " + key;
+
+    assertNotNull(idempotencyKeyRepository.findById(id).orElseThrow().getResponse());
+
+    // A fresh helper has nothing in memory, like the instance a retry lands on
+    IdempotencyHelper otherInstance = new IdempotencyHelper(
+        idempotencyKeyRepository,
+        objectMapper,
+        optimisticRetryHelper,
+        transactionManager,
+        Duration.ofHours(1),
+        100,
+        true);
+
+    TaskStateDto replayed = otherInstance.execute(
+        "POST " + TaskStateController.CREATE_TASK_STATE,
+        Optional.of(key),
+        projectId + "/todo",
+        TaskStateDto.class,
+        () -> {
+          throw new IllegalStateException("must not run again");
+        });
+
+    assertEquals(created, replayed);
+  }
+
+  @Test
+  void leavesNeitherTheCreateNorTheKeyWhenTheCreateFails() {
+
+    String name = "persistent-" + UUID.randomUUID();
+    String key = UUID.randomUUID().toString();
+
+    assertThrows(IllegalStateException.class, () ->
+        idempotencyHelper.execute("TEST", Optional.of(key), name, Long.class, () -> {
+
+          projectRepository.saveAndFlush(ProjectEntity.builder().name(name).build());
+
+          throw new IllegalStateException("create failed");
+        }));
+
+    assertFalse(idempotencyKeyRepository.existsById("TEST " + key));
+    assertTrue(projectRepository.findAll()
+        .stream()
+        .noneMatch(project -> name.equals(project.getName())));
+  }
+}